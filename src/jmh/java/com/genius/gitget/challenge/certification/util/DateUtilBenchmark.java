@@ -0,0 +1,80 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * 매 호출마다 ZoneId를 조회하고 ZonedDateTime을 만드는 기존 KST 변환과, offset 덧셈 기반 변환의 비용 비교
+ * ./gradlew jmh 로 실행한다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilBenchmark {
+    private static final int SIZE = 1024;
+
+    private Date[] createdAts;
+    private LocalDateTime[] localDateTimes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        createdAts = new Date[SIZE];
+        localDateTimes = new LocalDateTime[SIZE];
+        long base = Date.from(Instant.parse("2024-02-01T00:00:00Z")).getTime();
+        for (int i = 0; i < SIZE; i++) {
+            long epochMilli = base + (long) (random.nextDouble() * 60L * 24 * 60 * 60 * 1000);
+            createdAts[i] = new Date(epochMilli);
+            localDateTimes[i] = LocalDateTime.ofInstant(createdAts[i].toInstant(), ZoneId.systemDefault());
+        }
+    }
+
+    @Benchmark
+    public void legacyDateToKst(Blackhole blackhole) {
+        for (Date createdAt : createdAts) {
+            blackhole.consume(LocalDate.ofInstant(createdAt.toInstant(), ZoneId.of("Asia/Seoul")));
+        }
+    }
+
+    @Benchmark
+    public void epochDayDateToKst(Blackhole blackhole) {
+        for (Date createdAt : createdAts) {
+            blackhole.consume(DateUtil.convertToKST(createdAt));
+        }
+    }
+
+    @Benchmark
+    public void legacyLocalDateTimeToKst(Blackhole blackhole) {
+        for (LocalDateTime localDateTime : localDateTimes) {
+            ZonedDateTime systemTime = ZonedDateTime.of(localDateTime, ZoneId.systemDefault());
+            blackhole.consume(systemTime.withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDate());
+        }
+    }
+
+    @Benchmark
+    public void epochDayLocalDateTimeToKst(Blackhole blackhole) {
+        for (LocalDateTime localDateTime : localDateTimes) {
+            blackhole.consume(DateUtil.convertToKST(localDateTime));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * 인스턴스별 String.contains 반복과 Aho-Corasick matcher의 PR 본문 검사 비용 비교
+ * ./gradlew jmh 로 실행한다.
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrTemplateMatcherBenchmark {
+    @Param({"1", "5", "20"})
+    private int templateCount;
+
+    @Param({"1024", "65536"})
+    private int bodyLength;
+
+    private Map<Integer, String> templates;
+    private PrTemplateMatcher<Integer> matcher;
+    private List<String> bodies;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        templates = new LinkedHashMap<>();
+        for (int i = 0; i < templateCount; i++) {
+            templates.put(i, "GITGET-" + new UUID(random.nextLong(), random.nextLong()) + "-20240205");
+        }
+        matcher = PrTemplateMatcher.of(templates);
+
+        // 템플릿이 본문 끝에 있는 PR과 템플릿이 없는 PR을 섞어 최악의 경우까지 측정
+        bodies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            StringBuilder body = new StringBuilder(bodyLength + 64);
+            while (body.length() < bodyLength) {
+                body.append("GITGET-").append(Long.toHexString(random.nextLong())).append(" 풀이 기록\n");
+            }
+            if (i % 2 == 0) {
+                body.append(templates.get(i % templateCount));
+            }
+            bodies.add(body.toString());
+        }
+    }
+
+    @Benchmark
+    public void containsLoop(Blackhole blackhole) {
+        for (String body : bodies) {
+            for (Entry<Integer, String> template : templates.entrySet()) {
+                if (body.contains(template.getValue())) {
+                    blackhole.consume(template.getKey());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole blackhole) {
+        for (String body : bodies) {
+            blackhole.consume(matcher.match(body));
+        }
+    }
+}
@@ -3,13 +3,15 @@ package com.genius.gitget.challenge.certification.controller;
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
 import com.genius.gitget.challenge.certification.dto.CertificationInformation;
+import com.genius.gitget.challenge.certification.dto.CertificationJobResponse;
 import com.genius.gitget.challenge.certification.dto.CertificationRequest;
 import com.genius.gitget.challenge.certification.dto.CertificationResponse;
 import com.genius.gitget.challenge.certification.dto.InstancePreviewResponse;
 import com.genius.gitget.challenge.certification.dto.TotalResponse;
 import com.genius.gitget.challenge.certification.dto.WeekResponse;
 import com.genius.gitget.challenge.certification.facade.CertificationFacade;
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.service.CertificationJobService;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.instance.domain.Instance;
 import com.genius.gitget.challenge.instance.service.InstanceService;
 import com.genius.gitget.challenge.myChallenge.dto.ActivatedResponse;
@@ -21,7 +23,6 @@ import com.genius.gitget.global.util.annotation.GitGetUser;
 import com.genius.gitget.global.util.response.dto.SingleResponse;
 import com.genius.gitget.global.util.response.dto.SlicingResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +46,8 @@ public class CertificationController {
     private final InstanceService instanceService;
     private final CertificationFacade certificationFacade;
     private final ParticipantService participantService;
+    private final CertificationJobService certificationJobService;
+    private final KstClock kstClock;
 
 
     @GetMapping("/{instanceId}")
@@ -71,6 +74,30 @@ public class CertificationController {
         );
     }
 
+    @PostMapping("/today/async")
+    public ResponseEntity<SingleResponse<CertificationJobResponse>> certificateByGithubAsync(
+            @GitGetUser User user,
+            @RequestBody CertificationRequest certificationRequest
+    ) {
+        CertificationJobResponse jobResponse = certificationJobService.submit(user, certificationRequest);
+
+        return ResponseEntity.ok().body(
+                new SingleResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), jobResponse)
+        );
+    }
+
+    @GetMapping("/today/async/{jobId}")
+    public ResponseEntity<SingleResponse<CertificationJobResponse>> getCertificationJob(
+            @GitGetUser User user,
+            @PathVariable String jobId
+    ) {
+        CertificationJobResponse jobResponse = certificationJobService.getJob(user.getId(), jobId);
+
+        return ResponseEntity.ok().body(
+                new SingleResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), jobResponse)
+        );
+    }
+
     @PostMapping("/pass")
     public ResponseEntity<SingleResponse<ActivatedResponse>> passCertification(
             @GitGetUser User user,
@@ -89,7 +116,7 @@ public class CertificationController {
             @GitGetUser User user,
             @PathVariable Long instanceId
     ) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         Participant participant = participantService.findByJoinInfo(user.getId(), instanceId);
         WeekResponse weekResponse = certificationFacade.getMyWeekCertifications(participant.getId(), kstDate);
 
@@ -104,7 +131,7 @@ public class CertificationController {
             @PathVariable Long instanceId,
             @PageableDefault Pageable pageable
     ) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         Slice<WeekResponse> certifications = certificationFacade.getOthersWeekCertifications(
                 user.getId(), instanceId, kstDate, pageable);
 
@@ -118,7 +145,7 @@ public class CertificationController {
             @PathVariable Long instanceId,
             @RequestParam Long userId
     ) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         User user = userService.findUserById(userId);
         Participant participant = participantService.findByJoinInfo(user.getId(), instanceId);
         TotalResponse totalResponse = certificationFacade.getTotalCertification(
@@ -129,13 +156,29 @@ public class CertificationController {
         );
     }
 
+    @GetMapping("/total/slice/{instanceId}")
+    public ResponseEntity<SlicingResponse<CertificationResponse>> getTotalCertificationSlice(
+            @PathVariable Long instanceId,
+            @RequestParam Long userId,
+            @PageableDefault(size = 30) Pageable pageable
+    ) {
+        LocalDate kstDate = kstClock.today();
+        Participant participant = participantService.findByJoinInfo(userId, instanceId);
+        Slice<CertificationResponse> certifications = certificationFacade.getTotalCertification(
+                participant.getId(), kstDate, pageable);
+
+        return ResponseEntity.ok().body(
+                new SlicingResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), certifications)
+        );
+    }
+
     @GetMapping("/information/{instanceId}")
     public ResponseEntity<SingleResponse<CertificationInformation>> getCertificationInformation(
             @GitGetUser User user,
             @PathVariable Long instanceId
     ) {
 
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         Instance instance = instanceService.findInstanceById(instanceId);
         Participant participant = participantService.findByJoinInfo(user.getId(), instanceId);
 
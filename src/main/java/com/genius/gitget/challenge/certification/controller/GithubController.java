@@ -5,12 +5,11 @@ import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 import com.genius.gitget.challenge.certification.dto.github.GithubTokenRequest;
 import com.genius.gitget.challenge.certification.dto.github.PullRequestResponse;
 import com.genius.gitget.challenge.certification.facade.GithubFacade;
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.user.domain.User;
 import com.genius.gitget.global.util.annotation.GitGetUser;
 import com.genius.gitget.global.util.response.dto.CommonResponse;
 import com.genius.gitget.global.util.response.dto.ListResponse;
-import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/certification")
 public class GithubController {
     private final GithubFacade githubFacade;
+    private final KstClock kstClock;
 
     @PostMapping("/register/token")
     public ResponseEntity<CommonResponse> registerGithubToken(
@@ -83,7 +83,7 @@ public class GithubController {
     ) {
 
         List<PullRequestResponse> pullRequestResponses = githubFacade.verifyPullRequest(
-                user, repo, DateUtil.convertToKST(LocalDateTime.now())
+                user, repo, kstClock.today()
         );
 
         return ResponseEntity.ok().body(
@@ -0,0 +1,34 @@
+package com.genius.gitget.challenge.certification.controller;
+
+import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
+
+import com.genius.gitget.challenge.certification.service.GithubWebhookService;
+import com.genius.gitget.global.util.response.dto.CommonResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/webhook")
+public class GithubWebhookController {
+    private final GithubWebhookService githubWebhookService;
+
+
+    @PostMapping("/github")
+    public ResponseEntity<CommonResponse> receiveGithubEvent(
+            @RequestHeader("X-GitHub-Event") String event,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] payload
+    ) {
+        githubWebhookService.receive(event, signature, payload);
+
+        return ResponseEntity.ok().body(
+                new CommonResponse(SUCCESS.getStatus(), SUCCESS.getMessage())
+        );
+    }
+}
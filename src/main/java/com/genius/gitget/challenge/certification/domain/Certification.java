@@ -19,6 +19,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -31,12 +32,19 @@ import org.hibernate.annotations.DynamicInsert;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(indexes = {
-        @Index(
-                name = "idx_participant_cert_attempt",
-                columnList = "participant_id, certificated_at, current_attempt DESC"
-        )
-})
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_certification_participant_date",
+                        columnNames = {"participant_id", "certificated_at"}
+                )
+        },
+        indexes = {
+                @Index(
+                        name = "idx_participant_cert_attempt",
+                        columnList = "participant_id, certificated_at, current_attempt DESC"
+                )
+        })
 public class Certification extends BaseTimeEntity {
     @Id
     @Column(name = "certification_id")
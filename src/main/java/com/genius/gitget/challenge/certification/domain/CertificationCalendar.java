@@ -0,0 +1,212 @@
+package com.genius.gitget.challenge.certification.domain;
+
+import com.genius.gitget.challenge.certification.dto.StatusCount;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 참여자의 회차별 인증 상태를 회차당 2bit로 압축한 달력
+ * 00: 인증 기록 없음 또는 NOT_YET, 01: CERTIFICATED, 10: PASSED
+ * long 하나에 32회차가 들어가며, 인증 정보가 바뀔 때마다 해당 회차의 bit만 갱신한다.
+ * 상태별 개수는 하위/상위 bit mask에 대한 popcount로 계산하므로 인증 기록을 조회하지 않아도 된다.
+ * 전체 회차에 대한 개수와 마지막 인증 회차는 별도 컬럼으로 함께 갱신하여, 진행 중/완료 시점의 집계를 O(1)로 처리한다.
+ * */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "certification_calendar")
+public class CertificationCalendar {
+    private static final int BITS_PER_ATTEMPT = 2;
+    private static final int ATTEMPTS_PER_WORD = Long.SIZE / BITS_PER_ATTEMPT;
+    private static final long CERTIFICATED_MASK = 0x5555555555555555L;
+    private static final long PASSED_MASK = 0xAAAAAAAAAAAAAAAAL;
+    private static final long CERTIFICATED_BITS = 0b01L;
+    private static final long PASSED_BITS = 0b10L;
+    private static final long ATTEMPT_MASK = 0b11L;
+
+    @Id
+    @Column(name = "certification_calendar_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "participant_id", unique = true, nullable = false)
+    private Long participantId;
+
+    @Column(name = "attempt_bits", length = 1024)
+    private byte[] attemptBits;
+
+    private int certificatedCount;
+
+    private int passedCount;
+
+    private int lastAttempt;
+
+
+    public CertificationCalendar(Long participantId) {
+        this.participantId = participantId;
+        this.attemptBits = new byte[0];
+    }
+
+    public static CertificationCalendar of(Long participantId, List<Certification> certifications) {
+        CertificationCalendar calendar = new CertificationCalendar(participantId);
+        calendar.rebuild(certifications);
+        return calendar;
+    }
+
+
+    //=== 비지니스 로직 ===//
+    public void mark(int attempt, CertificateStatus status) {
+        if (attempt < 1) {
+            return;
+        }
+        CertificateStatus previous = get(attempt);
+        this.attemptBits = encode(set(decode(attemptBits), attempt, status));
+
+        this.certificatedCount += countOf(status, CertificateStatus.CERTIFICATED)
+                - countOf(previous, CertificateStatus.CERTIFICATED);
+        this.passedCount += countOf(status, CertificateStatus.PASSED) - countOf(previous, CertificateStatus.PASSED);
+        this.lastAttempt = Math.max(lastAttempt, attempt);
+    }
+
+    /*
+     * 인증 기록과 비교하여 달력과 집계 컬럼이 어긋났다면 인증 기록 기준으로 다시 계산
+     * 어긋난 경우 true를 반환한다.
+     * */
+    public boolean reconcile(List<Certification> certifications) {
+        CertificationCalendar expected = of(participantId, certifications);
+        boolean drifted = !Arrays.equals(expected.attemptBits, this.attemptBits)
+                || expected.certificatedCount != this.certificatedCount
+                || expected.passedCount != this.passedCount
+                || expected.lastAttempt != this.lastAttempt;
+        if (drifted) {
+            rebuild(certifications);
+        }
+        return drifted;
+    }
+
+    /*
+     * 1 ~ toAttempt 회차의 상태별 개수
+     * 마지막 인증 회차가 범위 안에 있다면 bit를 순회하지 않고 집계 컬럼을 그대로 사용한다.
+     * */
+    public StatusCount count(int toAttempt) {
+        if (lastAttempt <= toAttempt) {
+            int notYet = Math.max(toAttempt, 0) - certificatedCount - passedCount;
+            return new StatusCount(notYet, certificatedCount, passedCount);
+        }
+        return count(1, toAttempt);
+    }
+
+    public CertificateStatus get(int attempt) {
+        long[] words = decode(attemptBits);
+        int index = attempt - 1;
+        if (index < 0 || index / ATTEMPTS_PER_WORD >= words.length) {
+            return CertificateStatus.NOT_YET;
+        }
+
+        long bits = (words[index / ATTEMPTS_PER_WORD] >>> shift(index)) & ATTEMPT_MASK;
+        if (bits == CERTIFICATED_BITS) {
+            return CertificateStatus.CERTIFICATED;
+        }
+        if (bits == PASSED_BITS) {
+            return CertificateStatus.PASSED;
+        }
+        return CertificateStatus.NOT_YET;
+    }
+
+    /*
+     * fromAttempt ~ toAttempt 회차(양 끝 포함)의 상태별 개수
+     * 인증/패스하지 않은 나머지 회차는 모두 NOT_YET으로 집계한다.
+     * */
+    public StatusCount count(int fromAttempt, int toAttempt) {
+        int from = Math.max(fromAttempt, 1) - 1;
+        int to = toAttempt - 1;
+        if (to < from) {
+            return StatusCount.EMPTY;
+        }
+
+        long[] words = decode(attemptBits);
+        int certificated = 0;
+        int passed = 0;
+        int lastWord = Math.min(to / ATTEMPTS_PER_WORD, words.length - 1);
+        for (int wordIndex = from / ATTEMPTS_PER_WORD; wordIndex <= lastWord; wordIndex++) {
+            long word = words[wordIndex] & rangeMask(wordIndex, from, to);
+            certificated += Long.bitCount(word & CERTIFICATED_MASK);
+            passed += Long.bitCount(word & PASSED_MASK);
+        }
+
+        int notYet = (to - from + 1) - certificated - passed;
+        return new StatusCount(notYet, certificated, passed);
+    }
+
+    private void rebuild(List<Certification> certifications) {
+        long[] words = new long[0];
+        int maxAttempt = 0;
+        for (Certification certification : certifications) {
+            if (certification.getCurrentAttempt() < 1) {
+                continue;
+            }
+            words = set(words, certification.getCurrentAttempt(), certification.getCertificationStatus());
+            maxAttempt = Math.max(maxAttempt, certification.getCurrentAttempt());
+        }
+
+        this.attemptBits = encode(words);
+        this.lastAttempt = maxAttempt;
+        StatusCount total = count(1, lastAttempt);
+        this.certificatedCount = total.certificated();
+        this.passedCount = total.passed();
+    }
+
+    private static int countOf(CertificateStatus status, CertificateStatus target) {
+        return status == target ? 1 : 0;
+    }
+
+    private static long rangeMask(int wordIndex, int from, int to) {
+        int wordStart = wordIndex * ATTEMPTS_PER_WORD;
+        int lowIndex = Math.max(from, wordStart) - wordStart;
+        int highIndex = Math.min(to, wordStart + ATTEMPTS_PER_WORD - 1) - wordStart;
+
+        long low = -1L << (lowIndex * BITS_PER_ATTEMPT);
+        long high = highIndex == ATTEMPTS_PER_WORD - 1 ? -1L : (1L << ((highIndex + 1) * BITS_PER_ATTEMPT)) - 1;
+        return low & high;
+    }
+
+    private static long[] set(long[] words, int attempt, CertificateStatus status) {
+        int index = attempt - 1;
+        int wordIndex = index / ATTEMPTS_PER_WORD;
+        long[] updated = words.length > wordIndex ? words.clone() : Arrays.copyOf(words, wordIndex + 1);
+
+        long bits = switch (status) {
+            case CERTIFICATED -> CERTIFICATED_BITS;
+            case PASSED -> PASSED_BITS;
+            case NOT_YET -> 0L;
+        };
+        updated[wordIndex] = (updated[wordIndex] & ~(ATTEMPT_MASK << shift(index))) | (bits << shift(index));
+        return updated;
+    }
+
+    private static int shift(int index) {
+        return (index % ATTEMPTS_PER_WORD) * BITS_PER_ATTEMPT;
+    }
+
+    private static long[] decode(byte[] bytes) {
+        long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        return words;
+    }
+
+    private static byte[] encode(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,8 @@
+package com.genius.gitget.challenge.certification.domain;
+
+public enum CertificationJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,61 @@
+package com.genius.gitget.challenge.certification.domain;
+
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 인증에 사용된 PR 링크
+ * 인증 행의 쉼표로 이어 붙인 링크 문자열과 별도로 PR 단위로 저장하여, 특정 PR을 사용한 인증을 index로 조회할 수 있다.
+ * 인증 링크가 바뀔 때마다 해당 인증의 링크 전체를 교체하며, 대량 저장은 JDBC batch로 처리한다.
+ * 하나의 PR은 하나의 인증에만 사용될 수 있도록 (repository_full_name, pr_number)에 unique key를 둔다. (PR이 아닌 링크는 pr_number가 NULL)
+ * */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "certification_link",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_certification_link_pr",
+                        columnNames = {"repository_full_name", "pr_number"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_certification_link_certification", columnList = "certification_id")
+        })
+public class CertificationLink {
+    @Id
+    @Column(name = "certification_link_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "certification_id", nullable = false)
+    private Long certificationId;
+
+    @Column(length = 512, nullable = false)
+    private String url;
+
+    @Column(name = "repository_full_name")
+    private String repositoryFullName;
+
+    @Column(name = "pr_number")
+    private Integer prNumber;
+
+
+    public CertificationLink(Long certificationId, PullRequestUrl pullRequestUrl) {
+        this.certificationId = certificationId;
+        this.url = pullRequestUrl.url();
+        this.repositoryFullName = pullRequestUrl.repositoryFullName();
+        this.prNumber = pullRequestUrl.prNumber();
+    }
+}
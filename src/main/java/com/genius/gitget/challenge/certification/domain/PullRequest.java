@@ -0,0 +1,134 @@
+package com.genius.gitget.challenge.certification.domain;
+
+import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.global.util.exception.BusinessException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.kohsuke.github.GHPullRequest;
+
+/*
+ * GitHub에서 수집한 Pull Request 메타데이터
+ * 인증 시 GitHub 검색 API를 호출하지 않고 로컬에서 조회하기 위해 저장한다.
+ * */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pull_request",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_pull_request_repository_number",
+                        columnNames = {"repository_full_name", "pr_number"}
+                )
+        },
+        indexes = {
+                @Index(
+                        name = "idx_pull_request_author_date",
+                        columnList = "repository_full_name, author_login, created_kst_date"
+                )
+        })
+public class PullRequest {
+    @Id
+    @Column(name = "pull_request_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_full_name")
+    private String repositoryFullName;
+
+    @Column(name = "pr_number")
+    private int prNumber;
+
+    private String authorLogin;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    private String htmlUrl;
+
+    private LocalDateTime prCreatedAt;
+
+    private LocalDateTime prUpdatedAt;
+
+    @Column(name = "created_kst_date")
+    private LocalDate createdKstDate;
+
+
+    @Builder
+    public PullRequest(String repositoryFullName, int prNumber, String authorLogin, String title, String body,
+                       String htmlUrl, LocalDateTime prCreatedAt, LocalDateTime prUpdatedAt,
+                       LocalDate createdKstDate) {
+        this.repositoryFullName = repositoryFullName;
+        this.prNumber = prNumber;
+        this.authorLogin = authorLogin;
+        this.title = title;
+        this.body = body;
+        this.htmlUrl = htmlUrl;
+        this.prCreatedAt = prCreatedAt;
+        this.prUpdatedAt = prUpdatedAt;
+        this.createdKstDate = createdKstDate;
+    }
+
+    public static PullRequest of(String repositoryFullName, GHPullRequest ghPullRequest) {
+        PullRequest pullRequest = PullRequest.builder()
+                .repositoryFullName(repositoryFullName)
+                .prNumber(ghPullRequest.getNumber())
+                .build();
+        pullRequest.update(ghPullRequest);
+        return pullRequest;
+    }
+
+
+    //=== 비지니스 로직 ===//
+    public void update(GHPullRequest ghPullRequest) {
+        try {
+            Date createdAt = ghPullRequest.getCreatedAt();
+            this.authorLogin = ghPullRequest.getUser().getLogin();
+            this.title = ghPullRequest.getTitle();
+            this.body = ghPullRequest.getBody();
+            this.htmlUrl = ghPullRequest.getHtmlUrl().toString();
+            this.prCreatedAt = toUtc(createdAt);
+            this.prUpdatedAt = toUtc(ghPullRequest.getUpdatedAt());
+            this.createdKstDate = DateUtil.convertToKST(createdAt);
+        } catch (IOException e) {
+            throw new BusinessException(e);
+        }
+    }
+
+    public void update(PullRequest pullRequest) {
+        this.authorLogin = pullRequest.getAuthorLogin();
+        this.title = pullRequest.getTitle();
+        this.body = pullRequest.getBody();
+        this.htmlUrl = pullRequest.getHtmlUrl();
+        this.prCreatedAt = pullRequest.getPrCreatedAt();
+        this.prUpdatedAt = pullRequest.getPrUpdatedAt();
+        this.createdKstDate = pullRequest.getCreatedKstDate();
+    }
+
+    public boolean containsTemplate(String prTemplate) {
+        if (this.body == null) {
+            return false;
+        }
+        return this.body.contains(prTemplate);
+    }
+
+    private LocalDateTime toUtc(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+    }
+}
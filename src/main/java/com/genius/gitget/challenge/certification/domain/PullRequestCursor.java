@@ -0,0 +1,51 @@
+package com.genius.gitget.challenge.certification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 레포지토리별 PR 수집 위치
+ * 마지막으로 수집한 PR의 번호와 수정 시각을 기록하여, 다음 수집 때는 그 이후의 PR만 조회한다.
+ * */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pull_request_cursor")
+public class PullRequestCursor {
+    @Id
+    @Column(name = "pull_request_cursor_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repository_full_name", unique = true)
+    private String repositoryFullName;
+
+    private int lastPrNumber;
+
+    private LocalDateTime lastUpdatedAt;
+
+
+    public PullRequestCursor(String repositoryFullName) {
+        this.repositoryFullName = repositoryFullName;
+    }
+
+    //=== 비지니스 로직 ===//
+    public boolean isHarvested(LocalDateTime prUpdatedAt) {
+        return this.lastUpdatedAt != null && prUpdatedAt.isBefore(this.lastUpdatedAt);
+    }
+
+    public void advance(PullRequest pullRequest) {
+        this.lastPrNumber = Math.max(this.lastPrNumber, pullRequest.getPrNumber());
+        if (this.lastUpdatedAt == null || pullRequest.getPrUpdatedAt().isAfter(this.lastUpdatedAt)) {
+            this.lastUpdatedAt = pullRequest.getPrUpdatedAt();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.genius.gitget.challenge.certification.dto;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+
+public record CertificationCount(
+        Long participantId,
+        CertificateStatus status,
+        long count
+) {
+}
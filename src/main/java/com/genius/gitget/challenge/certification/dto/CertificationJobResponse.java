@@ -0,0 +1,13 @@
+package com.genius.gitget.challenge.certification.dto;
+
+import com.genius.gitget.challenge.certification.domain.CertificationJobStatus;
+import lombok.Builder;
+
+@Builder
+public record CertificationJobResponse(
+        String jobId,
+        CertificationJobStatus status,
+        CertificationResponse certification,
+        String errorMessage
+) {
+}
@@ -34,6 +34,22 @@ public record CertificationResponse(
                 .build();
     }
 
+    /*
+     * 인증 달력으로부터 생성하는 응답으로, 인증 기록의 식별자와 PR 링크는 포함하지 않는다.
+     * */
+    public static CertificationResponse createByStatus(int certificationAttempt, LocalDate certificatedAt,
+                                                       CertificateStatus certificateStatus) {
+        return CertificationResponse.builder()
+                .certificationId(0L)
+                .certificationAttempt(certificationAttempt)
+                .dayOfWeek(certificatedAt.getDayOfWeek())
+                .certificatedAt(certificatedAt)
+                .certificateStatus(certificateStatus)
+                .prLinks(null)
+                .prCount(0)
+                .build();
+    }
+
     public static CertificationResponse createExist(Certification certification) {
         List<String> prLinks = getPrList(certification.getCertificationLinks());
 
@@ -0,0 +1,8 @@
+package com.genius.gitget.challenge.certification.dto;
+
+public record ParticipantSuccessCount(
+        Long participantId,
+        Long instanceId,
+        long successCount
+) {
+}
@@ -0,0 +1,12 @@
+package com.genius.gitget.challenge.certification.dto;
+
+import java.time.LocalDate;
+
+/*
+ * PR을 인증에 사용한 참여자와 인증 일자
+ * */
+public record PullRequestClaim(
+        Long participantId,
+        LocalDate certificatedAt
+) {
+}
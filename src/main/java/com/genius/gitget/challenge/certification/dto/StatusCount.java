@@ -0,0 +1,35 @@
+package com.genius.gitget.challenge.certification.dto;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+
+/*
+ * 참여자의 인증 상태별 개수
+ * 인증 엔티티를 불러오지 않고 group by 집계 결과만으로 생성한다.
+ * */
+public record StatusCount(
+        int notYet,
+        int certificated,
+        int passed
+) {
+    public static final StatusCount EMPTY = new StatusCount(0, 0, 0);
+
+    public StatusCount add(CertificateStatus status, long count) {
+        return switch (status) {
+            case NOT_YET -> new StatusCount(notYet + (int) count, certificated, passed);
+            case CERTIFICATED -> new StatusCount(notYet, certificated + (int) count, passed);
+            case PASSED -> new StatusCount(notYet, certificated, passed + (int) count);
+        };
+    }
+
+    public int get(CertificateStatus status) {
+        return switch (status) {
+            case NOT_YET -> notYet;
+            case CERTIFICATED -> certificated;
+            case PASSED -> passed;
+        };
+    }
+
+    public int getSuccessCount() {
+        return certificated + passed;
+    }
+}
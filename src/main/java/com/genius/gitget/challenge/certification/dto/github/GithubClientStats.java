@@ -0,0 +1,9 @@
+package com.genius.gitget.challenge.certification.dto.github;
+
+public record GithubClientStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int cachedClients
+) {
+}
@@ -0,0 +1,9 @@
+package com.genius.gitget.challenge.certification.dto.github;
+
+import org.kohsuke.github.GHUser;
+
+public record GithubIdentity(
+        String login,
+        GHUser ghUser
+) {
+}
@@ -0,0 +1,57 @@
+package com.genius.gitget.challenge.certification.dto.github;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import com.genius.gitget.challenge.certification.util.DateUtil;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import lombok.Builder;
+
+@Builder
+public record PullRequestEvent(
+        String action,
+        String repositoryFullName,
+        String repositoryName,
+        int prNumber,
+        String authorLogin,
+        String title,
+        String body,
+        String htmlUrl,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static PullRequestEvent from(JsonNode payload) {
+        JsonNode pullRequest = payload.path("pull_request");
+        JsonNode repository = payload.path("repository");
+
+        return PullRequestEvent.builder()
+                .action(payload.path("action").asText())
+                .repositoryFullName(repository.path("full_name").asText())
+                .repositoryName(repository.path("name").asText())
+                .prNumber(pullRequest.path("number").asInt())
+                .authorLogin(pullRequest.path("user").path("login").asText())
+                .title(pullRequest.path("title").asText(null))
+                .body(pullRequest.path("body").isNull() ? null : pullRequest.path("body").asText(null))
+                .htmlUrl(pullRequest.path("html_url").asText())
+                .createdAt(Instant.parse(pullRequest.path("created_at").asText()))
+                .updatedAt(Instant.parse(pullRequest.path("updated_at").asText()))
+                .build();
+    }
+
+    public PullRequest toEntity() {
+        return PullRequest.builder()
+                .repositoryFullName(repositoryFullName)
+                .prNumber(prNumber)
+                .authorLogin(authorLogin)
+                .title(title)
+                .body(body)
+                .htmlUrl(htmlUrl)
+                .prCreatedAt(LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC))
+                .prUpdatedAt(LocalDateTime.ofInstant(updatedAt, ZoneOffset.UTC))
+                .createdKstDate(DateUtil.convertToKST(Date.from(createdAt)))
+                .build();
+    }
+}
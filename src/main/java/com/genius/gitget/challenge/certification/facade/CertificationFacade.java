@@ -22,6 +22,9 @@ public interface CertificationFacade {
 
     TotalResponse getTotalCertification(Long participantId, LocalDate currentDate);
 
+    Slice<CertificationResponse> getTotalCertification(Long participantId, LocalDate currentDate,
+                                                       Pageable pageable);
+
     ActivatedResponse passCertification(Long userId, CertificationRequest certificationRequest);
 
     CertificationResponse updateCertification(User user, CertificationRequest certificationRequest);
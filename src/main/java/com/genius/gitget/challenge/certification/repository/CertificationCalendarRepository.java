@@ -0,0 +1,41 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CertificationCalendarRepository extends JpaRepository<CertificationCalendar, Long> {
+
+    Optional<CertificationCalendar> findByParticipantId(Long participantId);
+
+    boolean existsByParticipantId(Long participantId);
+
+    @Query("select c from CertificationCalendar c where c.participantId in :participantIds")
+    List<CertificationCalendar> findAllByParticipantIds(@Param("participantIds") Collection<Long> participantIds);
+
+    @Query("select c.participantId from CertificationCalendar c where c.participantId > :lastParticipantId "
+            + "order by c.participantId")
+    List<Long> findParticipantIdsAfter(@Param("lastParticipantId") Long lastParticipantId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CertificationCalendar c where c.participantId in :participantIds")
+    List<CertificationCalendar> findAllByParticipantIdsForUpdate(
+            @Param("participantIds") Collection<Long> participantIds);
+
+    /*
+     * NOT_YET 인증을 직접 생성한 경우 마지막 인증 회차만 맞춰준다. (NOT_YET은 bit가 00이므로 달력은 바뀌지 않는다)
+     * */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CertificationCalendar c set c.lastAttempt = :attempt "
+            + "where c.participantId in :participantIds and c.lastAttempt < :attempt")
+    int raiseLastAttempt(@Param("participantIds") Collection<Long> participantIds,
+                         @Param("attempt") int attempt);
+}
@@ -0,0 +1,156 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * (participant_id, certificated_at) unique key를 이용한 인증 upsert
+ * 조회 후 저장하는 대신 한 번의 쿼리로 저장/갱신하므로, 동시에 같은 일자의 인증을 요청해도 중복 행이 생기지 않는다.
+ * INSERT ... ON DUPLICATE KEY UPDATE를 사용하며, 테스트의 H2도 MariaDB 호환 모드로 같은 쿼리를 실행한다.
+ * 이미 패스한 인증은 상태와 링크를 변경하지 않는다.
+ * */
+@Repository
+public class CertificationJdbcRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO certification
+                (participant_id, current_attempt, certificated_at, certification_links, certification_status,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                certification_links = CASE WHEN certification_status = 'PASSED' THEN certification_links
+                                           ELSE VALUES(certification_links) END,
+                updated_at = CASE WHEN certification_status = 'PASSED' THEN updated_at ELSE VALUES(updated_at) END,
+                certification_status = CASE WHEN certification_status = 'PASSED' THEN certification_status
+                                            ELSE VALUES(certification_status) END
+            """;
+
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT INTO certification
+                (participant_id, current_attempt, certificated_at, certification_links, certification_status,
+                 created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE certification_id = certification_id
+            """;
+
+    private static final String MULTI_INSERT_IGNORE_PREFIX = """
+            INSERT INTO certification
+                (participant_id, current_attempt, certificated_at, certification_links, certification_status,
+                 created_at, updated_at)
+            VALUES\s""";
+    private static final String MULTI_INSERT_VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String MULTI_INSERT_IGNORE_SUFFIX = " ON DUPLICATE KEY UPDATE certification_id = certification_id";
+
+    private static final String UPDATE_SQL = """
+            UPDATE certification
+            SET certification_status = ?, certification_links = ?, updated_at = ?
+            WHERE certification_id = ?
+            """;
+
+    private static final int PARAMETER_COUNT = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CertificationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void batchInsert(List<NewCertification> certifications) {
+        if (certifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, certifications, certifications.size(),
+                (ps, certification) -> bind(ps, certification, now));
+    }
+
+    /*
+     * 해당 일자의 인증이 없다면 생성하고, 있다면 패스하지 않은 경우에 한해 상태와 링크를 갱신
+     * */
+    public void upsert(NewCertification certification) {
+        execute(UPSERT_SQL, certification);
+    }
+
+    /*
+     * 해당 일자의 인증이 없을 때만 생성
+     * */
+    public void insertIfAbsent(NewCertification certification) {
+        execute(INSERT_IGNORE_SQL, certification);
+    }
+
+    /*
+     * 해당 일자의 인증이 없는 경우만 여러 건을 하나의 multi-row INSERT로 생성
+     * */
+    public void insertAllIfAbsent(List<NewCertification> certifications) {
+        if (certifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = MULTI_INSERT_IGNORE_PREFIX
+                + String.join(", ", Collections.nCopies(certifications.size(), MULTI_INSERT_VALUES))
+                + MULTI_INSERT_IGNORE_SUFFIX;
+        jdbcTemplate.update(sql, ps -> {
+            for (int i = 0; i < certifications.size(); i++) {
+                bind(ps, i * PARAMETER_COUNT, certifications.get(i), now);
+            }
+        });
+    }
+
+    public void batchUpdate(List<UpdatedCertification> certifications) {
+        if (certifications.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, certifications, certifications.size(), (ps, certification) -> {
+            ps.setString(1, certification.status().name());
+            ps.setString(2, certification.certificationLinks());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, certification.certificationId());
+        });
+    }
+
+    private void execute(String sql, NewCertification certification) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(sql, ps -> bind(ps, certification, now));
+    }
+
+    private void bind(PreparedStatement ps, NewCertification certification, Timestamp now)
+            throws SQLException {
+        bind(ps, 0, certification, now);
+    }
+
+    private void bind(PreparedStatement ps, int offset, NewCertification certification, Timestamp now)
+            throws SQLException {
+        ps.setLong(offset + 1, certification.participantId());
+        ps.setInt(offset + 2, certification.currentAttempt());
+        ps.setDate(offset + 3, Date.valueOf(certification.certificatedAt()));
+        ps.setString(offset + 4, certification.certificationLinks());
+        ps.setString(offset + 5, certification.status().name());
+        ps.setTimestamp(offset + 6, now);
+        ps.setTimestamp(offset + 7, now);
+    }
+
+    public record NewCertification(
+            Long participantId,
+            int currentAttempt,
+            LocalDate certificatedAt,
+            String certificationLinks,
+            CertificateStatus status
+    ) {
+    }
+
+    public record UpdatedCertification(
+            Long certificationId,
+            String certificationLinks,
+            CertificateStatus status
+    ) {
+    }
+}
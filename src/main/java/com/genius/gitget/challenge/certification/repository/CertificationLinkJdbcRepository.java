@@ -0,0 +1,81 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 인증별 PR 링크를 JDBC batch로 교체
+ * 인증마다 기존 링크를 삭제한 뒤 새 링크를 한 번의 batch insert로 저장한다.
+ * 다른 인증이 이미 사용한 PR을 저장하면 (repository_full_name, pr_number) unique key 위반으로 DuplicateKeyException이 발생한다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class CertificationLinkJdbcRepository {
+    private static final String DELETE_SQL = "DELETE FROM certification_link WHERE certification_id = ?";
+    private static final String INSERT_SQL = """
+            INSERT INTO certification_link (certification_id, url, repository_full_name, pr_number)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT INTO certification_link (certification_id, url, repository_full_name, pr_number)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE certification_link_id = certification_link_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void replaceAll(Map<Long, List<String>> linksByCertification) {
+        replaceAll(linksByCertification, INSERT_SQL);
+    }
+
+    /*
+     * 다른 인증이 이미 사용한 PR은 저장하지 않고 건너뛰며 교체
+     * 기존 데이터를 옮기는 경우처럼 충돌을 되돌릴 수 없는 경우에만 사용한다.
+     * */
+    public void replaceAllSkippingConflicts(Map<Long, List<String>> linksByCertification) {
+        replaceAll(linksByCertification, INSERT_IGNORE_SQL);
+    }
+
+    private void replaceAll(Map<Long, List<String>> linksByCertification, String insertSql) {
+        if (linksByCertification.isEmpty()) {
+            return;
+        }
+
+        List<Long> certificationIds = new ArrayList<>(linksByCertification.keySet());
+        List<LinkRow> rows = new ArrayList<>();
+        linksByCertification.forEach((certificationId, links) -> {
+            for (String link : links) {
+                rows.add(new LinkRow(certificationId, PullRequestUrl.parse(link)));
+            }
+        });
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, certificationIds, certificationIds.size(),
+                (ps, certificationId) -> ps.setLong(1, certificationId));
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, rows, rows.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, LinkRow row) throws SQLException {
+        ps.setLong(1, row.certificationId());
+        ps.setString(2, row.pullRequestUrl().url());
+        ps.setString(3, row.pullRequestUrl().repositoryFullName());
+        if (row.pullRequestUrl().isPullRequest()) {
+            ps.setInt(4, row.pullRequestUrl().prNumber());
+        } else {
+            ps.setNull(4, Types.INTEGER);
+        }
+    }
+
+    private record LinkRow(Long certificationId, PullRequestUrl pullRequestUrl) {
+    }
+}
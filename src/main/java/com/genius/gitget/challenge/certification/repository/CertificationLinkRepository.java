@@ -0,0 +1,19 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.CertificationLink;
+import com.genius.gitget.challenge.certification.dto.PullRequestClaim;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CertificationLinkRepository extends JpaRepository<CertificationLink, Long> {
+
+    List<CertificationLink> findAllByCertificationId(Long certificationId);
+
+    @Query("select new com.genius.gitget.challenge.certification.dto.PullRequestClaim(c.participant.id, c.certificatedAt) "
+            + "from CertificationLink l, Certification c where c.id = l.certificationId "
+            + "and l.repositoryFullName = :repositoryFullName and l.prNumber = :prNumber")
+    List<PullRequestClaim> findClaims(@Param("repositoryFullName") String repositoryFullName,
+                                      @Param("prNumber") int prNumber);
+}
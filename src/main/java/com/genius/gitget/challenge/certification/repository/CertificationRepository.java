@@ -1,6 +1,7 @@
 package com.genius.gitget.challenge.certification.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 
 import com.genius.gitget.challenge.certification.domain.CertificateStatus;
 import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.dto.CertificationCount;
+import com.genius.gitget.challenge.certification.dto.ParticipantSuccessCount;
 
 public interface CertificationRepository extends JpaRepository<Certification, Long> {
 
@@ -22,8 +25,38 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
 		@Param("endDate") LocalDate endDate,
 		@Param("participantId") Long participantId);
 
-	@Query("select c from Certification c where c.participant.id = :participantId and c.certificatedAt <= :currentDate AND c.certificationStatus = :status")
-	List<Certification> findByStatus(@Param("participantId") Long participantId,
-		@Param("status") CertificateStatus status,
+	@Query("select c from Certification c where c.participant.id in :participantIds and c.certificatedAt between :startDate AND :endDate order by c.currentAttempt desc")
+	List<Certification> findByDurationIn(@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		@Param("participantIds") List<Long> participantIds);
+
+	@Query("select c from Certification c where c.participant.id in :participantIds")
+	List<Certification> findAllByParticipantIds(@Param("participantIds") Collection<Long> participantIds);
+
+	@Query("select c from Certification c where c.participant.id in :participantIds AND c.certificatedAt = :targetDate")
+	List<Certification> findByDateIn(@Param("targetDate") LocalDate targetDate,
+		@Param("participantIds") List<Long> participantIds);
+
+	@Query("select c from Certification c join fetch c.participant where c.id in "
+		+ "(select l.certificationId from CertificationLink l where l.repositoryFullName = :repositoryFullName and l.prNumber = :prNumber)")
+	List<Certification> findAllByPullRequest(@Param("repositoryFullName") String repositoryFullName,
+		@Param("prNumber") int prNumber);
+
+	@Query("select new com.genius.gitget.challenge.certification.dto.CertificationCount(c.participant.id, c.certificationStatus, count(c)) "
+		+ "from Certification c where c.participant.id in :participantIds and c.certificatedAt <= :currentDate "
+		+ "group by c.participant.id, c.certificationStatus")
+	List<CertificationCount> countByStatus(@Param("participantIds") List<Long> participantIds,
 		@Param("currentDate") LocalDate currentDate);
+
+	/*
+	 * 인스턴스들의 모든 참여자에 대해 종료일까지의 인증 성공(CERTIFICATED, PASSED) 횟수를 한 번에 집계
+	 * 인증 기록이 없는 참여자도 0으로 포함된다.
+	 * */
+	@Query("select new com.genius.gitget.challenge.certification.dto.ParticipantSuccessCount(p.id, i.id, count(c)) "
+		+ "from Participant p join p.instance i "
+		+ "left join Certification c on c.participant.id = p.id and c.certificationStatus in :statuses "
+		+ "and c.certificatedAt <= cast(i.completedDate as LocalDate) "
+		+ "where i.id in :instanceIds group by p.id, i.id")
+	List<ParticipantSuccessCount> countSuccessByInstanceIds(@Param("instanceIds") Collection<Long> instanceIds,
+		@Param("statuses") Collection<CertificateStatus> statuses);
 }
@@ -0,0 +1,10 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.PullRequestCursor;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PullRequestCursorRepository extends JpaRepository<PullRequestCursor, Long> {
+
+    Optional<PullRequestCursor> findByRepositoryFullName(String repositoryFullName);
+}
@@ -0,0 +1,88 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * (repository_full_name, pr_number), repository_full_name unique key를 이용한 PR/수집 위치 upsert
+ * 수집(harvester)과 webhook, 여러 서버가 같은 PR을 동시에 저장하더라도 unique key 위반으로 실패하지 않는다.
+ * 이미 저장된 PR은 수정 시각이 같거나 더 최신인 정보로만 갱신한다.
+ * CertificationJdbcRepository와 같이 INSERT ... ON DUPLICATE KEY UPDATE를 사용한다.
+ * */
+@Repository
+public class PullRequestJdbcRepository {
+    private static final String FRESHER = "pr_updated_at IS NULL OR VALUES(pr_updated_at) >= pr_updated_at";
+
+    // pr_updated_at은 조건에 사용되므로 가장 마지막에 갱신한다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO pull_request
+                (repository_full_name, pr_number, author_login, title, body, html_url,
+                 pr_created_at, pr_updated_at, created_kst_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                author_login = CASE WHEN %1$s THEN VALUES(author_login) ELSE author_login END,
+                title = CASE WHEN %1$s THEN VALUES(title) ELSE title END,
+                body = CASE WHEN %1$s THEN VALUES(body) ELSE body END,
+                html_url = CASE WHEN %1$s THEN VALUES(html_url) ELSE html_url END,
+                pr_created_at = CASE WHEN %1$s THEN VALUES(pr_created_at) ELSE pr_created_at END,
+                created_kst_date = CASE WHEN %1$s THEN VALUES(created_kst_date) ELSE created_kst_date END,
+                pr_updated_at = CASE WHEN %1$s THEN VALUES(pr_updated_at) ELSE pr_updated_at END
+            """.formatted(FRESHER);
+
+    private static final String INSERT_CURSOR_IGNORE_SQL = """
+            INSERT INTO pull_request_cursor (repository_full_name, last_pr_number)
+            VALUES (?, 0)
+            ON DUPLICATE KEY UPDATE pull_request_cursor_id = pull_request_cursor_id
+            """;
+
+    // 동시에 수집한 결과가 역순으로 반영되더라도 수집 위치가 뒤로 돌아가지 않도록 큰 값만 반영한다.
+    private static final String ADVANCE_CURSOR_SQL = """
+            UPDATE pull_request_cursor
+            SET last_pr_number = GREATEST(last_pr_number, ?),
+                last_updated_at = CASE WHEN last_updated_at IS NULL OR last_updated_at < ? THEN ?
+                                       ELSE last_updated_at END
+            WHERE repository_full_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PullRequestJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertAll(List<PullRequest> pullRequests) {
+        if (pullRequests.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, pullRequests, pullRequests.size(), (ps, pullRequest) -> {
+            ps.setString(1, pullRequest.getRepositoryFullName());
+            ps.setInt(2, pullRequest.getPrNumber());
+            ps.setString(3, pullRequest.getAuthorLogin());
+            ps.setString(4, pullRequest.getTitle());
+            ps.setString(5, pullRequest.getBody());
+            ps.setString(6, pullRequest.getHtmlUrl());
+            ps.setTimestamp(7, toTimestamp(pullRequest.getPrCreatedAt()));
+            ps.setTimestamp(8, toTimestamp(pullRequest.getPrUpdatedAt()));
+            ps.setDate(9, pullRequest.getCreatedKstDate() == null ? null : Date.valueOf(pullRequest.getCreatedKstDate()));
+        });
+    }
+
+    /*
+     * 수집 위치가 없다면 생성한 뒤, 마지막 PR 번호와 수정 시각을 앞으로만 이동
+     * */
+    public void advanceCursor(String repositoryFullName, int lastPrNumber, LocalDateTime lastUpdatedAt) {
+        jdbcTemplate.update(INSERT_CURSOR_IGNORE_SQL, repositoryFullName);
+
+        Timestamp updatedAt = toTimestamp(lastUpdatedAt);
+        jdbcTemplate.update(ADVANCE_CURSOR_SQL, lastPrNumber, updatedAt, updatedAt, repositoryFullName);
+    }
+
+    private Timestamp toTimestamp(LocalDateTime localDateTime) {
+        return localDateTime == null ? null : Timestamp.valueOf(localDateTime);
+    }
+}
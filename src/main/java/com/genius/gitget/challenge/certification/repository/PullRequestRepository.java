@@ -0,0 +1,19 @@
+package com.genius.gitget.challenge.certification.repository;
+
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PullRequestRepository extends JpaRepository<PullRequest, Long> {
+
+    @Query("select p from PullRequest p where p.repositoryFullName = :repositoryFullName and p.authorLogin = :authorLogin and p.createdKstDate = :kstDate")
+    List<PullRequest> findByDate(@Param("repositoryFullName") String repositoryFullName,
+                                 @Param("authorLogin") String authorLogin,
+                                 @Param("kstDate") LocalDate kstDate);
+
+    Optional<PullRequest> findByRepositoryFullNameAndPrNumber(String repositoryFullName, int prNumber);
+}
@@ -1,10 +1,9 @@
 package com.genius.gitget.challenge.certification.service;
 
-import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
 import static com.genius.gitget.challenge.certification.domain.CertificateStatus.NOT_YET;
-import static com.genius.gitget.challenge.certification.domain.CertificateStatus.PASSED;
 
 import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
 import com.genius.gitget.challenge.certification.dto.CertificationInformation;
 import com.genius.gitget.challenge.certification.dto.CertificationRequest;
 import com.genius.gitget.challenge.certification.dto.CertificationResponse;
@@ -24,6 +23,7 @@ import com.genius.gitget.challenge.user.dto.UserProfileInfo;
 import com.genius.gitget.challenge.user.service.UserService;
 import com.genius.gitget.global.file.dto.FileResponse;
 import com.genius.gitget.global.file.service.FilesManager;
+import com.genius.gitget.store.item.domain.Item;
 import com.genius.gitget.store.item.service.OrdersService;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -35,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.kohsuke.github.GitHub;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +50,7 @@ public class CertificationFacadeService implements CertificationFacade {
     private final InstanceService instanceService;
     private final ParticipantService participantService;
     private final GithubService githubService;
+    private final PullRequestHarvester pullRequestHarvester;
     private final CertificationService certificationService;
     private final OrdersService ordersService;
 
@@ -62,9 +64,35 @@ public class CertificationFacadeService implements CertificationFacade {
     public Slice<WeekResponse> getOthersWeekCertifications(Long userId, Long instanceId,
                                                            LocalDate currentDate, Pageable pageable) {
         Slice<Participant> participants = participantService.findAllByInstanceId(userId, instanceId, pageable);
-        return participants.map(
-                participant -> getWeekResponse(participant, currentDate)
-        );
+        if (participants.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, participants.hasNext());
+        }
+
+        // 페이지 내 참여자들의 프레임, 인증 내역을 한 번씩만 조회한 뒤 메모리에서 조합
+        Instance instance = participants.getContent().get(0).getInstance();
+        LocalDate instanceStartDate = instance.getStartedDate().toLocalDate();
+        LocalDate weekStartDate = DateUtil.getWeekStartDate(instanceStartDate, currentDate);
+
+        Map<Long, Item> usingFrames = ordersService.getUsingFrameItems(
+                participants.map(participant -> participant.getUser().getId()).toList());
+        Map<Long, List<Certification>> certifications = instance.isActivatedInstance()
+                ? certificationService.findByDuration(weekStartDate, currentDate,
+                participants.map(Participant::getId).toList())
+                : Map.of();
+
+        return participants.map(participant -> {
+            User user = participant.getUser();
+            FileResponse fileResponse = filesManager.convertToFileResponse(user.getFiles());
+            UserProfileInfo userProfileInfo = UserProfileInfo.createByEntity(
+                    user, usingFrames.get(user.getId()).getId(), fileResponse);
+
+            if (!instance.isActivatedInstance()) {
+                return WeekResponse.create(userProfileInfo, new ArrayList<>());
+            }
+            List<CertificationResponse> weekCertifications = getWeekCertifications(
+                    certifications.getOrDefault(participant.getId(), List.of()), instanceStartDate, currentDate);
+            return WeekResponse.create(userProfileInfo, weekCertifications);
+        });
     }
 
     private WeekResponse getWeekResponse(Participant participant, LocalDate currentDate) {
@@ -120,18 +148,10 @@ public class CertificationFacadeService implements CertificationFacade {
         LocalDate startDate = instance.getStartedDate().toLocalDate();
 
         int totalAttempts = instance.getTotalAttempt();
-        int curAttempt = DateUtil.getAttemptCount(startDate, currentDate);
-
-        if (instance.getProgress() == Progress.DONE) {
-            currentDate = instance.getCompletedDate().toLocalDate();
-            curAttempt = totalAttempts;
-        }
-
-        List<Certification> certifications = certificationService.findByDuration(
-                startDate, currentDate, participantId);
+        int curAttempt = getCurrentAttempt(instance, currentDate);
 
-        List<CertificationResponse> totalCertifications = getTotalCertifications(
-                certifications, curAttempt, startDate);
+        CertificationCalendar calendar = certificationService.getCalendar(participantId);
+        List<CertificationResponse> totalCertifications = getTotalCertifications(calendar, curAttempt, startDate);
 
         return TotalResponse.builder()
                 .totalAttempts(totalAttempts)
@@ -139,26 +159,54 @@ public class CertificationFacadeService implements CertificationFacade {
                 .build();
     }
 
-    private List<CertificationResponse> getTotalCertifications(List<Certification> certifications,
-                                                               int curAttempt, LocalDate startedDate) {
-        List<CertificationResponse> result = new ArrayList<>();
-        Map<Integer, Certification> totalMap = new HashMap<>();
+    /*
+     * 전체 인증 내역을 회차 기준으로 나누어 조회
+     * 요청한 페이지에 해당하는 기간의 인증 기록만 조회하므로, 챌린지 기간이 길어져도 요청당 메모리 사용량은 페이지 크기를 넘지 않는다.
+     * */
+    @Override
+    public Slice<CertificationResponse> getTotalCertification(Long participantId, LocalDate currentDate,
+                                                              Pageable pageable) {
+        Instance instance = participantService.getInstanceById(participantId);
+        LocalDate startDate = instance.getStartedDate().toLocalDate();
+        int curAttempt = getCurrentAttempt(instance, currentDate);
 
-        for (Certification certification : certifications) {
-            totalMap.put(certification.getCurrentAttempt(), certification);
+        int fromAttempt = (int) Math.min(pageable.getOffset(), curAttempt) + 1;
+        int toAttempt = Math.min(fromAttempt + pageable.getPageSize() - 1, curAttempt);
+        if (fromAttempt > toAttempt) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
         }
 
-        startedDate = startedDate.minusDays(1);
+        LocalDate fromDate = startDate.plusDays(fromAttempt - 1);
+        LocalDate toDate = startDate.plusDays(toAttempt - 1);
+        Map<Integer, Certification> certifications = new HashMap<>();
+        for (Certification certification : certificationService.findByDuration(fromDate, toDate, participantId)) {
+            certifications.put(certification.getCurrentAttempt(), certification);
+        }
 
-        for (int cur = 1; cur <= curAttempt; cur++) {
-            startedDate = startedDate.plusDays(1);
-            if (totalMap.containsKey(cur)) {
-                result.add(CertificationResponse.createExist(totalMap.get(cur)));
-                continue;
-            }
-            result.add(CertificationResponse.createNonExist(cur, startedDate));
+        List<CertificationResponse> content = new ArrayList<>(toAttempt - fromAttempt + 1);
+        for (int cur = fromAttempt; cur <= toAttempt; cur++) {
+            Certification certification = certifications.get(cur);
+            content.add(certification == null
+                    ? CertificationResponse.createNonExist(cur, startDate.plusDays(cur - 1))
+                    : CertificationResponse.createExist(certification));
+        }
+        return new SliceImpl<>(content, pageable, toAttempt < curAttempt);
+    }
+
+    private int getCurrentAttempt(Instance instance, LocalDate currentDate) {
+        if (instance.getProgress() == Progress.DONE) {
+            return instance.getTotalAttempt();
         }
+        return DateUtil.getAttemptCount(instance.getStartedDate().toLocalDate(), currentDate);
+    }
 
+    private List<CertificationResponse> getTotalCertifications(CertificationCalendar calendar,
+                                                               int curAttempt, LocalDate startedDate) {
+        List<CertificationResponse> result = new ArrayList<>();
+        for (int cur = 1; cur <= curAttempt; cur++) {
+            result.add(CertificationResponse.createByStatus(
+                    cur, startedDate.plusDays(cur - 1), calendar.get(cur)));
+        }
         return result;
     }
 
@@ -174,7 +222,7 @@ public class CertificationFacadeService implements CertificationFacade {
         instance.validateCertificateCondition(targetDate);
         certification.validatePassCondition();
 
-        certification.updateToPass(targetDate);
+        certificationService.updateToPass(certification, targetDate);
 
         FileResponse fileResponse = filesManager.convertToFileResponse(instance.getFiles());
         return ActivatedResponse.of(instance, certification.getCertificationStatus(),
@@ -193,21 +241,12 @@ public class CertificationFacadeService implements CertificationFacade {
 
         instance.validateCertificateCondition(targetDate);
 
-        List<String> filteredPullRequests = githubService.filterValidPR(
-                githubService.getPullRequestByDate(gitHub, repositoryName, targetDate),
-                instance.getPrTemplate(targetDate)
+        List<String> filteredPullRequests = pullRequestHarvester.findValidPullRequests(
+                gitHub, repositoryName, targetDate, instance.getPrTemplate(targetDate)
         );
 
-        certificationService.findOrSave(participant, NOT_YET, targetDate);
-
-        Certification certification = certificationService.findByDate(targetDate, participant.getId())
-                .map(updated -> {
-                    updated.validateCertificateCondition();
-                    return certificationService.update(updated, targetDate, filteredPullRequests);
-                })
-                .orElseGet(
-                        () -> certificationService.createCertificated(participant, targetDate, filteredPullRequests)
-                );
+        Certification certification = certificationService.upsertCertificated(
+                participant, targetDate, filteredPullRequests);
 
         return CertificationResponse.createExist(certification);
     }
@@ -236,14 +275,14 @@ public class CertificationFacadeService implements CertificationFacade {
             }
             case ACTIVITY -> {
                 currentAttempt = DateUtil.getAttemptCount(instance.getStartedDate().toLocalDate(), currentDate);
-                successCount = calculateSuccess(participant.getId(), currentDate);
+                successCount = calculateSuccess(participant.getId(), currentAttempt);
                 failureCount = currentAttempt - successCount;
                 remainCount = totalAttempt - currentAttempt;
 
             }
             case DONE -> {
                 currentAttempt = totalAttempt;
-                successCount = calculateSuccess(participant.getId(), instance.getCompletedDate().toLocalDate());
+                successCount = calculateSuccess(participant.getId(), totalAttempt);
                 failureCount = totalAttempt - successCount;
             }
         }
@@ -261,10 +300,8 @@ public class CertificationFacadeService implements CertificationFacade {
                 .build();
     }
 
-    private int calculateSuccess(Long participantId, LocalDate currentDate) {
-        int certificated = certificationService.countByStatus(participantId, CERTIFICATED, currentDate);
-        int passed = certificationService.countByStatus(participantId, PASSED, currentDate);
-        return certificated + passed;
+    private int calculateSuccess(Long participantId, int currentAttempt) {
+        return certificationService.getCalendar(participantId).count(currentAttempt).getSuccessCount();
     }
 
     private double getSuccessPercent(int successCount, int currentAttempt) {
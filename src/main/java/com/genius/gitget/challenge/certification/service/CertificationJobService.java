@@ -0,0 +1,145 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static com.genius.gitget.global.util.exception.ErrorCode.CERTIFICATION_JOB_NOT_FOUND;
+import static com.genius.gitget.global.util.exception.ErrorCode.CERTIFICATION_JOB_QUEUE_FULL;
+
+import com.genius.gitget.challenge.certification.domain.CertificationJobStatus;
+import com.genius.gitget.challenge.certification.dto.CertificationJobResponse;
+import com.genius.gitget.challenge.certification.dto.CertificationRequest;
+import com.genius.gitget.challenge.certification.dto.CertificationResponse;
+import com.genius.gitget.challenge.certification.facade.CertificationFacade;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.global.util.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+ * GitHub PR 조회를 포함한 인증 갱신을 요청 스레드와 분리하여 처리
+ * 요청 시 작업 id를 즉시 반환하고, 크기가 제한된 작업 풀에서 인증을 수행한 뒤 결과를 조회할 수 있도록 보관한다.
+ * 같은 사용자가 같은 챌린지, 같은 일자로 진행 중인 작업이 있다면 새로 생성하지 않고 기존 작업 id를 반환한다.
+ * */
+@Slf4j
+@Service
+public class CertificationJobService {
+    private final CertificationFacade certificationFacade;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<String, CertificationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, CertificationJob> inFlight = new ConcurrentHashMap<>();
+
+    public CertificationJobService(CertificationFacade certificationFacade,
+                                   @Value("${certification.job.workers:8}") int workers,
+                                   @Value("${certification.job.queue-capacity:200}") int queueCapacity,
+                                   @Value("${certification.job.retention:10m}") Duration retention) {
+        this.certificationFacade = certificationFacade;
+        this.retention = retention;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CertificationJobResponse submit(User user, CertificationRequest certificationRequest) {
+        evictExpiredJobs();
+
+        JobKey key = new JobKey(user.getId(), certificationRequest.instanceId(), certificationRequest.targetDate());
+        CertificationJob created = new CertificationJob(UUID.randomUUID().toString(), user.getId());
+        CertificationJob job = inFlight.putIfAbsent(key, created);
+        if (job != null) {
+            return job.toResponse();
+        }
+
+        jobs.put(created.id, created);
+        try {
+            executor.execute(() -> run(created, key, user, certificationRequest));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            jobs.remove(created.id);
+            throw new BusinessException(CERTIFICATION_JOB_QUEUE_FULL);
+        }
+        return created.toResponse();
+    }
+
+    public CertificationJobResponse getJob(Long userId, String jobId) {
+        CertificationJob job = jobs.get(jobId);
+        if (job == null || !Objects.equals(job.userId, userId)) {
+            throw new BusinessException(CERTIFICATION_JOB_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void run(CertificationJob job, JobKey key, User user, CertificationRequest certificationRequest) {
+        job.status = CertificationJobStatus.RUNNING;
+        try {
+            job.certification = certificationFacade.updateCertification(user, certificationRequest);
+            job.status = CertificationJobStatus.DONE;
+        } catch (RuntimeException e) {
+            log.warn("인증 작업 {} 실패 - {}", job.id, e.getMessage());
+            job.errorMessage = e.getMessage();
+            job.status = CertificationJobStatus.FAILED;
+        } finally {
+            job.completedAt = Instant.now();
+            inFlight.remove(key, job);
+        }
+    }
+
+    /*
+     * 완료 후 retention 기간이 지난 작업 결과 제거
+     * */
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record JobKey(Long userId, Long instanceId, LocalDate targetDate) {
+    }
+
+    private static class CertificationJob {
+        private final String id;
+        private final Long userId;
+        private volatile CertificationJobStatus status = CertificationJobStatus.PENDING;
+        private volatile CertificationResponse certification;
+        private volatile String errorMessage;
+        private volatile Instant completedAt;
+
+        private CertificationJob(String id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private CertificationJobResponse toResponse() {
+            // 완료 상태를 먼저 읽어야 결과 필드가 모두 기록된 이후의 값을 반환할 수 있다.
+            CertificationJobStatus current = status;
+            return CertificationJobResponse.builder()
+                    .jobId(id)
+                    .status(current)
+                    .certification(current == CertificationJobStatus.DONE ? certification : null)
+                    .errorMessage(current == CertificationJobStatus.FAILED ? errorMessage : null)
+                    .build();
+        }
+    }
+}
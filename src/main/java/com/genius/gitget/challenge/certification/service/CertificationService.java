@@ -2,17 +2,41 @@ package com.genius.gitget.challenge.certification.service;
 
 import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
 import static com.genius.gitget.challenge.certification.domain.CertificateStatus.NOT_YET;
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.PASSED;
+import static com.genius.gitget.global.util.exception.ErrorCode.CERTIFICATION_NOT_FOUND;
+import static com.genius.gitget.global.util.exception.ErrorCode.GITHUB_PR_ALREADY_USED;
 
 import com.genius.gitget.challenge.certification.domain.CertificateStatus;
 import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import com.genius.gitget.challenge.certification.dto.CertificationCount;
+import com.genius.gitget.challenge.certification.dto.ParticipantSuccessCount;
+import com.genius.gitget.challenge.certification.dto.PullRequestClaim;
+import com.genius.gitget.challenge.certification.dto.StatusCount;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationJdbcRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationJdbcRepository.NewCertification;
+import com.genius.gitget.challenge.certification.repository.CertificationJdbcRepository.UpdatedCertification;
+import com.genius.gitget.challenge.certification.repository.CertificationLinkJdbcRepository;
 import com.genius.gitget.challenge.certification.repository.CertificationRepository;
 import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
 import com.genius.gitget.challenge.instance.domain.Instance;
 import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.global.util.exception.BusinessException;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,24 +45,131 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CertificationService {
     private final CertificationRepository certificationRepository;
+    private final CertificationJdbcRepository certificationJdbcRepository;
+    private final CertificationCalendarRepository certificationCalendarRepository;
+    private final CertificationLinkJdbcRepository certificationLinkJdbcRepository;
+    private final ParticipantRepository participantRepository;
+    private final PullRequestRegistry pullRequestRegistry;
+    private final EntityManager entityManager;
 
 
     public List<Certification> findByDuration(LocalDate startDate, LocalDate endDate, Long participantId) {
         return certificationRepository.findByDuration(startDate, endDate, participantId);
     }
 
+    public Map<Long, List<Certification>> findByDuration(LocalDate startDate, LocalDate endDate,
+                                                         List<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return Map.of();
+        }
+        return certificationRepository.findByDurationIn(startDate, endDate, participantIds).stream()
+                .collect(Collectors.groupingBy(certification -> certification.getParticipant().getId()));
+    }
+
+    /*
+     * 해당 PR 링크를 사용한 인증 목록 조회
+     * PR 형식이 아닌 링크는 레포지토리/PR 번호로 색인되지 않으므로 빈 목록을 반환한다.
+     * */
+    public List<Certification> findByPullRequest(String pullRequestUrl) {
+        PullRequestUrl parsed = PullRequestUrl.parse(pullRequestUrl);
+        if (!parsed.isPullRequest()) {
+            return List.of();
+        }
+        return certificationRepository.findAllByPullRequest(parsed.repositoryFullName(), parsed.prNumber());
+    }
+
     public Optional<Certification> findByDate(LocalDate targetDate, Long participantId) {
         return certificationRepository.findByDate(targetDate, participantId);
     }
 
     public int countByStatus(Long participantId, CertificateStatus certificateStatus,
                              LocalDate targetDate) {
-        return certificationRepository.findByStatus(participantId, certificateStatus, targetDate).size();
+        return countByStatus(participantId, targetDate).get(certificateStatus);
+    }
+
+    public StatusCount countByStatus(Long participantId, LocalDate targetDate) {
+        return countByStatus(List.of(participantId), targetDate).get(participantId);
+    }
+
+    /*
+     * 여러 참여자의 상태별 인증 개수를 하나의 group by 쿼리로 집계
+     * 인증 기록이 없는 참여자도 빈 결과를 가지도록 채워서 반환한다.
+     * */
+    public Map<Long, StatusCount> countByStatus(List<Long> participantIds, LocalDate targetDate) {
+        Map<Long, StatusCount> statusCounts = new HashMap<>();
+        for (Long participantId : participantIds) {
+            statusCounts.put(participantId, StatusCount.EMPTY);
+        }
+        if (participantIds.isEmpty()) {
+            return statusCounts;
+        }
+
+        for (CertificationCount count : certificationRepository.countByStatus(participantIds, targetDate)) {
+            statusCounts.merge(count.participantId(), StatusCount.EMPTY.add(count.status(), count.count()),
+                    (saved, added) -> saved.add(count.status(), count.count()));
+        }
+        return statusCounts;
+    }
+
+    /*
+     * 인스턴스들에 속한 모든 참여자의 인증 성공 횟수를 하나의 group by 쿼리로 집계
+     * */
+    public List<ParticipantSuccessCount> countSuccessByInstances(Collection<Long> instanceIds) {
+        if (instanceIds.isEmpty()) {
+            return List.of();
+        }
+        return certificationRepository.countSuccessByInstanceIds(
+                instanceIds, List.of(CertificateStatus.CERTIFICATED, CertificateStatus.PASSED));
+    }
+
+    /*
+     * 참여자의 인증 달력 조회
+     * 아직 달력이 저장되지 않은 참여자는 인증 기록으로부터 만들어서 반환한다.
+     * */
+    public CertificationCalendar getCalendar(Long participantId) {
+        return certificationCalendarRepository.findByParticipantId(participantId)
+                .orElseGet(() -> CertificationCalendar.of(participantId,
+                        certificationRepository.findAllByParticipantIds(List.of(participantId))));
+    }
+
+    /*
+     * 여러 참여자의 인증 달력을 한 번에 조회
+     * 달력이 없는 참여자들은 인증 기록을 한 번에 조회하여 만들며, 만들어진 달력은 저장하지 않는다.
+     * */
+    public Map<Long, CertificationCalendar> getCalendars(Collection<Long> participantIds) {
+        if (participantIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return fillMissingCalendars(
+                participantIds, certificationCalendarRepository.findAllByParticipantIds(participantIds));
+    }
+
+    private Map<Long, CertificationCalendar> fillMissingCalendars(Collection<Long> participantIds,
+                                                                  List<CertificationCalendar> found) {
+        Map<Long, CertificationCalendar> calendars = found.stream()
+                .collect(Collectors.toMap(CertificationCalendar::getParticipantId, Function.identity()));
+
+        List<Long> missing = participantIds.stream()
+                .filter(participantId -> !calendars.containsKey(participantId))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<Long, List<Certification>> certifications = certificationRepository.findAllByParticipantIds(missing)
+                    .stream()
+                    .collect(Collectors.groupingBy(certification -> certification.getParticipant().getId()));
+            for (Long participantId : missing) {
+                calendars.put(participantId, CertificationCalendar.of(
+                        participantId, certifications.getOrDefault(participantId, List.of())));
+            }
+        }
+        return calendars;
     }
 
     @Transactional
     public Certification save(Certification certification) {
-        return certificationRepository.save(certification);
+        Certification saved = certificationRepository.save(certification);
+        markCalendar(saved);
+        linkPullRequests(Map.of(saved.getId(), PullRequestUrl.splitLinks(saved.getCertificationLinks())));
+        return saved;
     }
 
     @Transactional
@@ -48,21 +179,111 @@ public class CertificationService {
         certification.update(
                 targetDate, getCertificateStatus(pullRequests), getPrLinks(pullRequests)
         );
+        markCalendar(certification);
+        linkPullRequests(Map.of(certification.getId(), pullRequests));
         return certification;
     }
 
+    @Transactional
+    public Certification updateToPass(Certification certification, LocalDate targetDate) {
+        pullRequestRegistry.release(PullRequestUrl.splitLinks(certification.getCertificationLinks()));
+        certification.updateToPass(targetDate);
+        markCalendar(certification);
+        linkPullRequests(Map.of(certification.getId(), List.of()));
+        return certification;
+    }
+
+    /*
+     * 여러 참여자의 해당 일자 인증 상태를 한 번에 조회
+     * 인증이 아직 생성되지 않은 참여자는 저장하지 않고 NOT_YET으로 채워서 반환한다.
+     * */
+    public Map<Long, CertificateStatus> findStatusByDate(LocalDate targetDate, List<Long> participantIds) {
+        Map<Long, CertificateStatus> statuses = new HashMap<>();
+        for (Long participantId : participantIds) {
+            statuses.put(participantId, NOT_YET);
+        }
+        if (participantIds.isEmpty()) {
+            return statuses;
+        }
+
+        for (Certification certification : certificationRepository.findByDateIn(targetDate, participantIds)) {
+            statuses.put(certification.getParticipant().getId(), certification.getCertificationStatus());
+        }
+        return statuses;
+    }
+
+    /*
+     * 해당 일자의 NOT_YET 인증을 없는 참여자에 한해 한 번에 생성
+     * attempts: 참여자 id -> 해당 일자의 회차
+     * */
+    @Transactional
+    public void saveAllNotYet(LocalDate targetDate, Map<Long, Integer> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+        certificationJdbcRepository.insertAllIfAbsent(attempts.entrySet().stream()
+                .map(attempt -> new NewCertification(attempt.getKey(), attempt.getValue(), targetDate, "", NOT_YET))
+                .toList());
+
+        attempts.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((attempt, participantIds) ->
+                        certificationCalendarRepository.raiseLastAttempt(participantIds, attempt));
+    }
+
     @Transactional
     public Certification findOrSave(Participant participant, CertificateStatus status, LocalDate targetDate) {
         int currentAttempt = DateUtil.getAttemptCount(participant.getStartedDate(), targetDate);
 
         return findByDate(targetDate, participant.getId())
                 .orElseGet(() -> {
-                    Certification certification = Certification.of(status, currentAttempt, targetDate);
-                    certification.setParticipant(participant);
-                    return certificationRepository.save(certification);
+                    certificationRepository.flush();
+                    certificationJdbcRepository.insertIfAbsent(new NewCertification(
+                            participant.getId(), currentAttempt, targetDate, "", status));
+                    Certification certification = findUpserted(participant.getId(), targetDate);
+                    markCalendar(certification);
+                    return certification;
                 });
     }
 
+    /*
+     * 해당 일자의 인증을 한 번의 upsert로 생성/갱신
+     * 이미 패스한 인증은 변경되지 않으며, 갱신할 수 없다는 예외를 던진다.
+     * 다른 인증에 이미 사용된 PR은 제외하며, 유효한 PR이 모두 사용된 PR이라면 예외를 던진다.
+     * */
+    @Transactional
+    public Certification upsertCertificated(Participant participant, LocalDate targetDate,
+                                            List<String> validPullRequests) {
+        int attempt = DateUtil.getAttemptCount(participant.getStartedDate(), targetDate);
+        PullRequestClaim claimant = new PullRequestClaim(participant.getId(), targetDate);
+        List<String> pullRequests = pullRequestRegistry.filterUnclaimed(claimant, validPullRequests);
+        if (!validPullRequests.isEmpty() && pullRequests.isEmpty()) {
+            throw new BusinessException(GITHUB_PR_ALREADY_USED);
+        }
+
+        certificationRepository.flush();
+        certificationJdbcRepository.upsert(new NewCertification(participant.getId(), attempt, targetDate,
+                getPrLinks(pullRequests), getCertificateStatus(pullRequests)));
+
+        Certification certification = findUpserted(participant.getId(), targetDate);
+        certification.validateCertificateCondition();
+        markCalendar(certification);
+        linkPullRequests(Map.of(certification.getId(), pullRequests));
+        pullRequestRegistry.register(claimant, pullRequests);
+        return certification;
+    }
+
+    /*
+     * JDBC로 반영한 값은 영속성 컨텍스트에 이미 올라와 있는 엔티티에 반영되지 않으므로, 조회한 엔티티를 DB 값으로 다시 읽어온다.
+     * */
+    private Certification findUpserted(Long participantId, LocalDate targetDate) {
+        Certification certification = findByDate(targetDate, participantId)
+                .orElseThrow(() -> new BusinessException(CERTIFICATION_NOT_FOUND));
+        entityManager.refresh(certification);
+        return certification;
+    }
+
     @Transactional
     public Certification createCertificated(Participant participant,
                                             LocalDate targetDate,
@@ -78,7 +299,129 @@ public class CertificationService {
 
         certification.setParticipant(participant);
 
-        return certificationRepository.save(certification);
+        Certification saved = certificationRepository.save(certification);
+        markCalendar(saved);
+        linkPullRequests(Map.of(saved.getId(), pullRequests));
+        return saved;
+    }
+
+    /*
+     * 여러 참여자의 인증 결과를 한 번에 반영
+     * 유효한 PR이 있는 참여자에 대해서만 CERTIFICATED로 기록하며, 이미 패스한 인증은 변경하지 않는다.
+     * 다른 인증에 이미 사용되었거나 같은 요청에서 먼저 허용된 PR은 제외한다.
+     * */
+    @Transactional
+    public int certifyAll(LocalDate targetDate, Map<Participant, List<String>> pullRequests) {
+        if (pullRequests.isEmpty()) {
+            return 0;
+        }
+        List<Long> participantIds = pullRequests.keySet().stream()
+                .map(Participant::getId)
+                .toList();
+        Map<Long, Certification> existing = certificationRepository.findByDateIn(targetDate, participantIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        certification -> certification.getParticipant().getId(), Function.identity()));
+
+        List<NewCertification> inserts = new ArrayList<>();
+        List<UpdatedCertification> updates = new ArrayList<>();
+        Map<Long, Integer> certificatedAttempts = new HashMap<>();
+        Map<Long, List<String>> insertedLinks = new HashMap<>();
+        Map<Long, List<String>> updatedLinks = new HashMap<>();
+        Map<String, PullRequestClaim> claimed = new HashMap<>();
+
+        pullRequests.forEach((participant, validLinks) -> {
+            Certification certification = existing.get(participant.getId());
+            if (certification != null && certification.getCertificationStatus() == PASSED) {
+                return;
+            }
+            PullRequestClaim claimant = new PullRequestClaim(participant.getId(), targetDate);
+            List<String> prLinks = pullRequestRegistry.filterUnclaimed(claimant, validLinks, claimed);
+            if (prLinks.isEmpty()) {
+                return;
+            }
+            pullRequestRegistry.register(claimant, prLinks);
+            String certificationLinks = getPrLinks(prLinks);
+
+            if (certification == null) {
+                int attempt = DateUtil.getAttemptCount(participant.getStartedDate(), targetDate);
+                inserts.add(new NewCertification(
+                        participant.getId(), attempt, targetDate, certificationLinks, CERTIFICATED));
+                certificatedAttempts.put(participant.getId(), attempt);
+                insertedLinks.put(participant.getId(), prLinks);
+                return;
+            }
+            if (certificationLinks.equals(certification.getCertificationLinks())) {
+                return;
+            }
+            updates.add(new UpdatedCertification(certification.getId(), certificationLinks, CERTIFICATED));
+            certificatedAttempts.put(participant.getId(), certification.getCurrentAttempt());
+            updatedLinks.put(certification.getId(), prLinks);
+        });
+
+        certificationJdbcRepository.batchInsert(inserts);
+        certificationJdbcRepository.batchUpdate(updates);
+        markCalendars(certificatedAttempts, CERTIFICATED);
+
+        // 새로 저장한 인증은 id를 알 수 없으므로, 한 번 더 조회하여 링크를 연결
+        if (!insertedLinks.isEmpty()) {
+            for (Certification inserted : certificationRepository.findByDateIn(
+                    targetDate, new ArrayList<>(insertedLinks.keySet()))) {
+                if (inserted.getCertificationStatus() == PASSED) {
+                    continue;
+                }
+                updatedLinks.put(inserted.getId(), insertedLinks.get(inserted.getParticipant().getId()));
+            }
+        }
+        linkPullRequests(updatedLinks);
+        return inserts.size() + updates.size();
+    }
+
+    /*
+     * 인증 정보가 바뀐 회차의 bit만 갱신
+     * 같은 참여자의 달력을 동시에 생성/갱신하지 않도록 참여자 행에 쓰기 잠금을 건 뒤, 달력도 잠금 조회로 최신 값을 읽는다.
+     * 달력이 없는 상태에서 NOT_YET으로 바뀐 경우에는 조회 시 인증 기록으로부터 만들어지므로 생성하지 않는다.
+     * 참여자와 연결되기 전에 저장된 인증은 이후 조회/정합성 검사 시 달력에 반영된다.
+     * */
+    private void markCalendar(Certification certification) {
+        if (certification.getParticipant() == null) {
+            return;
+        }
+        Long participantId = certification.getParticipant().getId();
+        if (certification.getCertificationStatus() == NOT_YET
+                && !certificationCalendarRepository.existsByParticipantId(participantId)) {
+            return;
+        }
+        markCalendars(Map.of(participantId, certification.getCurrentAttempt()),
+                certification.getCertificationStatus());
+    }
+
+    private void markCalendars(Map<Long, Integer> attempts, CertificateStatus status) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+        participantRepository.findAllByIdForUpdate(attempts.keySet());
+        Map<Long, CertificationCalendar> calendars = fillMissingCalendars(attempts.keySet(),
+                certificationCalendarRepository.findAllByParticipantIdsForUpdate(attempts.keySet()));
+
+        attempts.forEach((participantId, attempt) -> {
+            CertificationCalendar calendar = calendars.get(participantId);
+            if (calendar.getId() == null) {
+                certificationCalendarRepository.save(calendar);
+            }
+            calendar.mark(attempt, status);
+        });
+    }
+
+    /*
+     * 다른 트랜잭션이 같은 PR을 먼저 사용한 경우 unique key 위반이 발생하므로, 사용된 PR과 같은 예외로 처리하여 롤백한다.
+     * */
+    private void linkPullRequests(Map<Long, List<String>> linksByCertification) {
+        try {
+            certificationLinkJdbcRepository.replaceAll(linksByCertification);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(GITHUB_PR_ALREADY_USED);
+        }
     }
 
     private String getPrLinks(List<String> pullRequests) {
@@ -98,8 +441,12 @@ public class CertificationService {
     }
 
     public double getAchievementRate(Instance instance, Long participantId, LocalDate targetDate) {
+        return getAchievementRate(instance, countByStatus(participantId, targetDate));
+    }
+
+    public double getAchievementRate(Instance instance, StatusCount statusCount) {
         int totalAttempt = instance.getTotalAttempt();
-        int successCount = countByStatus(participantId, CERTIFICATED, targetDate);
+        int successCount = statusCount.certificated();
 
         double successPercent = (double) successCount / (double) totalAttempt * 100;
         return Math.round(successPercent * 100 / 100.0);
@@ -0,0 +1,117 @@
+package com.genius.gitget.challenge.certification.service;
+
+import com.genius.gitget.challenge.certification.dto.github.GithubClientStats;
+import com.genius.gitget.challenge.certification.util.TokenFingerprint;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GitHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 사용자별 GitHub 클라이언트 저장소
+ * (사용자 id, 토큰 fingerprint)가 같다면 이미 검증된 클라이언트를 재사용하고,
+ * 토큰이 변경되었거나 idle-timeout 동안 사용되지 않은 클라이언트는 제거한다.
+ * */
+@Slf4j
+@Component
+public class GithubClientRegistry {
+    private final Map<Long, CachedClient> clients = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final Duration idleTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public GithubClientRegistry(@Value("${github.client.idle-timeout:30m}") Duration idleTimeout) {
+        this(idleTimeout, Clock.systemUTC());
+    }
+
+    GithubClientRegistry(Duration idleTimeout, Clock clock) {
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    public GitHub getOrCreate(Long userId, String encryptedToken, Supplier<GitHub> connector) {
+        if (userId == null || encryptedToken == null || encryptedToken.isBlank()) {
+            return connector.get();
+        }
+
+        String fingerprint = TokenFingerprint.of(encryptedToken);
+        Instant now = clock.instant();
+
+        CachedClient cached = clients.get(userId);
+        if (cached != null && cached.isUsable(fingerprint, now, idleTimeout)) {
+            cached.touch(now);
+            hitCount.incrementAndGet();
+            return cached.gitHub();
+        }
+        if (cached != null && clients.remove(userId, cached)) {
+            evictionCount.incrementAndGet();
+        }
+
+        missCount.incrementAndGet();
+        GitHub gitHub = connector.get();
+        clients.put(userId, new CachedClient(gitHub, fingerprint, now));
+        return gitHub;
+    }
+
+    public void evict(Long userId) {
+        if (clients.remove(userId) != null) {
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${github.client.eviction-interval:5m}")
+    public void evictIdleClients() {
+        Instant now = clock.instant();
+        clients.forEach((userId, cached) -> {
+            if (cached.isIdle(now, idleTimeout) && clients.remove(userId, cached)) {
+                evictionCount.incrementAndGet();
+            }
+        });
+        log.debug("GitHub client registry: {}", getStats());
+    }
+
+    public GithubClientStats getStats() {
+        return new GithubClientStats(hitCount.get(), missCount.get(), evictionCount.get(), clients.size());
+    }
+
+    private static final class CachedClient {
+        private final GitHub gitHub;
+        private final String fingerprint;
+        private volatile Instant lastAccess;
+
+        private CachedClient(GitHub gitHub, String fingerprint, Instant lastAccess) {
+            this.gitHub = gitHub;
+            this.fingerprint = fingerprint;
+            this.lastAccess = lastAccess;
+        }
+
+        private GitHub gitHub() {
+            return gitHub;
+        }
+
+        private void touch(Instant now) {
+            this.lastAccess = now;
+        }
+
+        private boolean isIdle(Instant now, Duration idleTimeout) {
+            return lastAccess.plus(idleTimeout).isBefore(now);
+        }
+
+        private boolean isUsable(String fingerprint, Instant now, Duration idleTimeout) {
+            return this.fingerprint.equals(fingerprint) && !isIdle(now, idleTimeout);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class GithubFacadeService implements GithubFacade {
     private final UserService userService;
     private final GithubService githubService;
+    private final GithubClientRegistry githubClientRegistry;
     private final EncryptUtil encryptUtil;
 
     @Override
@@ -36,11 +37,13 @@ public class GithubFacadeService implements GithubFacade {
         String encryptedToken = encryptUtil.encrypt(githubToken);
         user.updateGithubPersonalToken(encryptedToken);
         userService.save(user);
+        githubClientRegistry.evict(user.getId());
+        userService.evictGithubToken(user.getId());
     }
 
     @Override
     public void verifyGithubToken(User user) {
-        String githubToken = encryptUtil.decrypt(user.getGithubToken());
+        String githubToken = userService.getGithubToken(user);
 
         GitHub gitHub = githubService.getGithubConnection(githubToken);
         githubService.validateGithubConnection(gitHub, user.getIdentifier());
@@ -0,0 +1,82 @@
+package com.genius.gitget.challenge.certification.service;
+
+import com.genius.gitget.challenge.certification.dto.github.GithubIdentity;
+import com.genius.gitget.challenge.certification.util.TokenFingerprint;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.kohsuke.github.GHMyself;
+import org.kohsuke.github.GitHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 토큰별 GitHub 계정 정보(login, GHUser) 캐시
+ * 토큰의 소유자는 바뀌지 않으므로 /user 조회는 토큰당 한 번만 진행한다.
+ * */
+@Component
+public class GithubIdentityCache {
+    private final Map<GitHub, String> tokenKeys = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<String, CachedIdentity> identities = new ConcurrentHashMap<>();
+
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    @Autowired
+    public GithubIdentityCache(@Value("${github.identity.ttl:1h}") Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    GithubIdentityCache(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /*
+     * GitHub 클라이언트와 해당 클라이언트를 만든 토큰을 연결
+     * */
+    public void register(GitHub gitHub, String githubToken) {
+        tokenKeys.put(gitHub, TokenFingerprint.of(githubToken));
+    }
+
+    public GithubIdentity resolve(GitHub gitHub) throws IOException {
+        String tokenKey = tokenKeys.get(gitHub);
+        if (tokenKey == null) {
+            return fetchIdentity(gitHub);
+        }
+
+        Instant now = clock.instant();
+        CachedIdentity cached = identities.get(tokenKey);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.identity();
+        }
+
+        GithubIdentity identity = fetchIdentity(gitHub);
+        identities.put(tokenKey, new CachedIdentity(identity, now.plus(timeToLive)));
+        return identity;
+    }
+
+    @Scheduled(fixedDelayString = "${github.client.eviction-interval:5m}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        identities.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private GithubIdentity fetchIdentity(GitHub gitHub) throws IOException {
+        GHMyself myself = gitHub.getMyself();
+        return new GithubIdentity(myself.getLogin(), myself);
+    }
+
+    private record CachedIdentity(GithubIdentity identity, Instant expiresAt) {
+        private boolean isExpired(Instant now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
@@ -14,14 +14,19 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.kohsuke.github.GHDirection;
 import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestQueryBuilder;
 import org.kohsuke.github.GHPullRequestSearchBuilder;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHRepositorySearchBuilder;
 import org.kohsuke.github.GHRepositorySearchBuilder.Sort;
 import org.kohsuke.github.GHUser;
 import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubAbuseLimitHandler;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.GitHubRateLimitHandler;
+import org.kohsuke.github.connector.GitHubConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,32 +35,38 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GithubService {
     private final UserService userService;
+    private final GitHubConnector gitHubConnector;
+    private final GithubClientRegistry githubClientRegistry;
+    private final GithubIdentityCache githubIdentityCache;
 
 
     public GitHub getGithubConnection(String githubToken) {
         try {
-            GitHub gitHub = new GitHubBuilder().withOAuthToken(githubToken).build();
+            GitHub gitHub = new GitHubBuilder()
+                    .withOAuthToken(githubToken)
+                    .withConnector(gitHubConnector)
+                    .withRateLimitHandler(GitHubRateLimitHandler.FAIL)
+                    .withAbuseLimitHandler(GitHubAbuseLimitHandler.FAIL)
+                    .build();
             gitHub.checkApiUrlValidity();
+            githubIdentityCache.register(gitHub, githubToken);
             return gitHub;
         } catch (IOException e) {
             throw new BusinessException(GITHUB_CONNECTION_FAILED);
         }
     }
 
+    /*
+     * 이미 검증된 클라이언트가 있다면 재사용하고, 없을 때만 토큰 복호화 및 연결 검증 진행
+     * */
     public GitHub getGithubConnection(User user) {
-        try {
-            String githubToken = userService.getGithubToken(user);
-            GitHub gitHub = new GitHubBuilder().withOAuthToken(githubToken).build();
-            gitHub.checkApiUrlValidity();
-            return gitHub;
-        } catch (IOException e) {
-            throw new BusinessException(GITHUB_CONNECTION_FAILED);
-        }
+        return githubClientRegistry.getOrCreate(user.getId(), user.getGithubToken(),
+                () -> getGithubConnection(userService.getGithubToken(user)));
     }
 
     public void validateGithubConnection(GitHub gitHub, String githubId) {
         try {
-            String accountId = gitHub.getMyself().getLogin();
+            String accountId = githubIdentityCache.resolve(gitHub).login();
             validateGithubAccount(githubId, accountId);
         } catch (IOException e) {
             throw new BusinessException(GITHUB_CONNECTION_FAILED);
@@ -99,7 +110,7 @@ public class GithubService {
                     .author(getGHUser(gitHub))
                     .created(kstDate.minusDays(1), kstDate);
 
-            return prSearchBuilder.list().iterator().nextPage().stream()
+            return prSearchBuilder.list().withPageSize(100).toList().stream()
                     .filter(pr -> isEqualToKST(pr, kstDate))
                     .toList();
 
@@ -110,6 +121,26 @@ public class GithubService {
         }
     }
 
+    /*
+     * 레포지토리의 모든 PR을 최근 수정 순으로 조회
+     * 순회하는 동안 필요한 페이지만 요청하므로, 호출하는 쪽에서 원하는 지점까지만 읽을 수 있다.
+     * */
+    public Iterable<GHPullRequest> getPullRequestsByUpdated(GitHub gitHub, String repositoryFullName) {
+        try {
+            return gitHub.getRepository(repositoryFullName)
+                    .queryPullRequests()
+                    .state(GHIssueState.ALL)
+                    .sort(GHPullRequestQueryBuilder.Sort.UPDATED)
+                    .direction(GHDirection.DESC)
+                    .list()
+                    .withPageSize(100);
+        } catch (GHFileNotFoundException e) {
+            throw new BusinessException(GITHUB_REPOSITORY_INCORRECT);
+        } catch (IOException e) {
+            throw new BusinessException(e);
+        }
+    }
+
     private boolean isEqualToKST(GHPullRequest ghPullRequest, LocalDate targetDate) {
         try {
             LocalDate kst = DateUtil.convertToKST(ghPullRequest.getCreatedAt());
@@ -132,15 +163,18 @@ public class GithubService {
     }
 
     private GHUser getGHUser(GitHub gitHub) throws IOException {
-        String accountId = gitHub.getMyself().getLogin();
-        return gitHub.getUser(accountId);
+        return githubIdentityCache.resolve(gitHub).ghUser();
     }
 
-    public String getRepoFullName(GitHub gitHub, String repositoryName) {
+    public String getLogin(GitHub gitHub) {
         try {
-            return gitHub.getMyself().getLogin() + "/" + repositoryName;
+            return githubIdentityCache.resolve(gitHub).login();
         } catch (IOException e) {
             throw new BusinessException(e);
         }
     }
+
+    public String getRepoFullName(GitHub gitHub, String repositoryName) {
+        return getLogin(gitHub) + "/" + repositoryName;
+    }
 }
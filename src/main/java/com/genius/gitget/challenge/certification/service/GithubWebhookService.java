@@ -0,0 +1,196 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static com.genius.gitget.global.util.exception.ErrorCode.GITHUB_WEBHOOK_PAYLOAD_INVALID;
+import static com.genius.gitget.global.util.exception.ErrorCode.GITHUB_WEBHOOK_QUEUE_FULL;
+import static com.genius.gitget.global.util.exception.ErrorCode.GITHUB_WEBHOOK_SIGNATURE_INVALID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import com.genius.gitget.challenge.certification.dto.github.PullRequestEvent;
+import com.genius.gitget.challenge.certification.repository.PullRequestJdbcRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestRepository;
+import com.genius.gitget.challenge.certification.util.PrTemplateMatcher;
+import com.genius.gitget.challenge.certification.util.WebhookSignature;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.service.ParticipantService;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.service.UserService;
+import com.genius.gitget.global.util.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * GitHub pull_request webhook 처리
+ * 요청 스레드에서는 서명 검증과 payload 해석만 수행하고, PR 저장 및 인증 갱신은 작업 큐에 넘겨 비동기로 처리한다.
+ * 큐가 가득 차면 503을 응답하여 GitHub가 이후에 재전송하도록 한다.
+ * */
+@Slf4j
+@Service
+public class GithubWebhookService {
+    private static final Set<String> CERTIFY_ACTIONS = Set.of("opened", "edited", "reopened", "synchronize");
+
+    private final ObjectMapper objectMapper;
+    private final PullRequestRepository pullRequestRepository;
+    private final PullRequestJdbcRepository pullRequestJdbcRepository;
+    private final UserService userService;
+    private final ParticipantService participantService;
+    private final CertificationService certificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final String secret;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong processedCount = new AtomicLong();
+
+    public GithubWebhookService(ObjectMapper objectMapper,
+                                PullRequestRepository pullRequestRepository,
+                                PullRequestJdbcRepository pullRequestJdbcRepository,
+                                UserService userService,
+                                ParticipantService participantService,
+                                CertificationService certificationService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${github.webhook.secret:}") String secret,
+                                @Value("${github.webhook.workers:4}") int workers,
+                                @Value("${github.webhook.queue-capacity:1000}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.pullRequestRepository = pullRequestRepository;
+        this.pullRequestJdbcRepository = pullRequestJdbcRepository;
+        this.userService = userService;
+        this.participantService = participantService;
+        this.certificationService = certificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.secret = secret;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void receive(String event, String signature, byte[] payload) {
+        if (!WebhookSignature.isValid(secret, payload, signature)) {
+            throw new BusinessException(GITHUB_WEBHOOK_SIGNATURE_INVALID);
+        }
+        if (!"pull_request".equals(event)) {
+            return;
+        }
+
+        PullRequestEvent pullRequestEvent = parse(payload);
+        if (!CERTIFY_ACTIONS.contains(pullRequestEvent.action())) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> process(pullRequestEvent));
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(GITHUB_WEBHOOK_QUEUE_FULL);
+        }
+    }
+
+    public PullRequestEvent parse(byte[] payload) {
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            return PullRequestEvent.from(root);
+        } catch (IOException | RuntimeException e) {
+            throw new BusinessException(GITHUB_WEBHOOK_PAYLOAD_INVALID);
+        }
+    }
+
+    public void process(PullRequestEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> certify(event));
+            processedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            log.warn("webhook {}#{} 처리 실패 - {}", event.repositoryFullName(), event.prNumber(), e.getMessage());
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    private void certify(PullRequestEvent event) {
+        PullRequest pullRequest = upsert(event);
+
+        User user;
+        try {
+            user = userService.findByIdentifier(event.authorLogin());
+        } catch (BusinessException e) {
+            return;
+        }
+
+        LocalDate targetDate = pullRequest.getCreatedKstDate();
+        Map<Participant, String> templates = new LinkedHashMap<>();
+        for (Participant participant : participantService.findJoinedByProgress(user.getId(), Progress.ACTIVITY)) {
+            // 다른 사용자의 같은 이름 레포지토리에 올린 PR로 인증되지 않도록 소유자까지 비교한다.
+            if (!isParticipantRepository(user, participant, event)) {
+                continue;
+            }
+
+            Instance instance = participant.getInstance();
+            try {
+                instance.validateCertificateCondition(targetDate);
+            } catch (BusinessException e) {
+                continue;
+            }
+            templates.put(participant, instance.getPrTemplate(targetDate));
+        }
+        if (templates.isEmpty()) {
+            return;
+        }
+
+        // 같은 레포지토리를 사용하는 여러 챌린지를 PR 본문 한 번의 순회로 함께 인증
+        List<PullRequest> pullRequests = pullRequestRepository.findByDate(
+                event.repositoryFullName(), event.authorLogin(), targetDate);
+        Map<Participant, List<PullRequest>> matched = PrTemplateMatcher.of(templates)
+                .matchAll(pullRequests, PullRequest::getBody);
+
+        Map<Participant, List<String>> links = new LinkedHashMap<>();
+        templates.keySet().forEach(participant -> links.put(participant,
+                matched.getOrDefault(participant, List.of()).stream()
+                        .map(PullRequest::getHtmlUrl)
+                        .toList()));
+        certificationService.certifyAll(targetDate, links);
+    }
+
+    /*
+     * GitHub의 사용자/레포지토리 이름은 대소문자를 구분하지 않는다.
+     * */
+    private boolean isParticipantRepository(User user, Participant participant, PullRequestEvent event) {
+        String repositoryFullName = user.getIdentifier() + "/" + participant.getRepositoryName();
+        return repositoryFullName.equalsIgnoreCase(event.repositoryFullName());
+    }
+
+    /*
+     * 수집(harvester)이나 다른 서버가 같은 PR을 동시에 저장할 수 있으므로 upsert 후 저장된 값을 다시 조회한다.
+     * */
+    private PullRequest upsert(PullRequestEvent event) {
+        PullRequest received = event.toEntity();
+        pullRequestJdbcRepository.upsertAll(List.of(received));
+        return pullRequestRepository.findByRepositoryFullNameAndPrNumber(
+                        event.repositoryFullName(), event.prNumber())
+                .orElse(received);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
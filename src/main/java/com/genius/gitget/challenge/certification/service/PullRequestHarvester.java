@@ -0,0 +1,126 @@
+package com.genius.gitget.challenge.certification.service;
+
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import com.genius.gitget.challenge.certification.domain.PullRequestCursor;
+import com.genius.gitget.challenge.certification.repository.PullRequestCursorRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestJdbcRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestRepository;
+import com.genius.gitget.challenge.certification.util.PrTemplateMatcher;
+import com.genius.gitget.global.util.exception.BusinessException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 레포지토리의 PR을 증분 수집하여 로컬에 저장
+ * 레포지토리별 cursor(마지막으로 수집한 PR의 수정 시각) 이후에 생성/수정된 PR만 pulls API로 조회하며,
+ * 모든 페이지를 순회하므로 첫 페이지 이후의 PR이 누락되지 않는다.
+ * */
+@Slf4j
+@Service
+public class PullRequestHarvester {
+    private final GithubService githubService;
+    private final PullRequestRepository pullRequestRepository;
+    private final PullRequestCursorRepository pullRequestCursorRepository;
+    private final PullRequestJdbcRepository pullRequestJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PullRequestHarvester(GithubService githubService,
+                                PullRequestRepository pullRequestRepository,
+                                PullRequestCursorRepository pullRequestCursorRepository,
+                                PullRequestJdbcRepository pullRequestJdbcRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.githubService = githubService;
+        this.pullRequestRepository = pullRequestRepository;
+        this.pullRequestCursorRepository = pullRequestCursorRepository;
+        this.pullRequestJdbcRepository = pullRequestJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<String> findValidPullRequests(GitHub gitHub, String repositoryName, LocalDate kstDate,
+                                              String prTemplate) {
+        return findPullRequests(gitHub, repositoryName, kstDate).stream()
+                .filter(pullRequest -> pullRequest.containsTemplate(prTemplate))
+                .map(PullRequest::getHtmlUrl)
+                .toList();
+    }
+
+    /*
+     * 같은 레포지토리를 사용하는 여러 인스턴스의 템플릿을 한 번에 확인
+     * PR 목록은 한 번만 조회하고, 각 PR 본문도 한 번만 순회한다.
+     * */
+    public <K> Map<K, List<String>> findValidPullRequests(GitHub gitHub, String repositoryName, LocalDate kstDate,
+                                                         PrTemplateMatcher<K> matcher) {
+        Map<K, List<String>> validPullRequests = new LinkedHashMap<>();
+        matcher.matchAll(findPullRequests(gitHub, repositoryName, kstDate), PullRequest::getBody)
+                .forEach((key, pullRequests) -> validPullRequests.put(key, pullRequests.stream()
+                        .map(PullRequest::getHtmlUrl)
+                        .toList()));
+        return validPullRequests;
+    }
+
+    public List<PullRequest> findPullRequests(GitHub gitHub, String repositoryName, LocalDate kstDate) {
+        String repositoryFullName = githubService.getRepoFullName(gitHub, repositoryName);
+        harvest(gitHub, repositoryFullName);
+
+        return pullRequestRepository.findByDate(repositoryFullName, githubService.getLogin(gitHub), kstDate);
+    }
+
+    /*
+     * GitHub 조회는 락과 트랜잭션 밖에서 수행하고, 저장은 짧은 트랜잭션에서 upsert로 처리한다.
+     * 같은 레포지토리를 여러 스레드/서버가 동시에 수집하더라도 unique key 위반 없이 최신 정보만 남으며,
+     * 수집 결과는 호출한 쪽의 트랜잭션과 별개로 즉시 커밋한다.
+     * */
+    public int harvest(GitHub gitHub, String repositoryFullName) {
+        PullRequestCursor cursor = pullRequestCursorRepository.findByRepositoryFullName(repositoryFullName)
+                .orElseGet(() -> new PullRequestCursor(repositoryFullName));
+
+        List<PullRequest> harvested = fetchUpdatedPullRequests(gitHub, repositoryFullName, cursor);
+        if (harvested.isEmpty()) {
+            return 0;
+        }
+
+        PullRequestCursor advanced = new PullRequestCursor(repositoryFullName);
+        harvested.forEach(advanced::advance);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pullRequestJdbcRepository.upsertAll(harvested);
+            pullRequestJdbcRepository.advanceCursor(
+                    repositoryFullName, advanced.getLastPrNumber(), advanced.getLastUpdatedAt());
+        });
+        log.debug("{}: PR {}건 수집 (cursor #{})", repositoryFullName, harvested.size(), advanced.getLastPrNumber());
+        return harvested.size();
+    }
+
+    private List<PullRequest> fetchUpdatedPullRequests(GitHub gitHub, String repositoryFullName,
+                                                       PullRequestCursor cursor) {
+        try {
+            Map<Integer, PullRequest> fetched = new LinkedHashMap<>();
+            for (GHPullRequest ghPullRequest : githubService.getPullRequestsByUpdated(gitHub, repositoryFullName)) {
+                LocalDateTime updatedAt = LocalDateTime.ofInstant(
+                        ghPullRequest.getUpdatedAt().toInstant(), ZoneOffset.UTC);
+                if (cursor.isHarvested(updatedAt)) {
+                    break;
+                }
+                // 순회 도중 수정된 PR은 다음 페이지에 다시 나타날 수 있으므로 먼저 읽은(더 최신) 정보를 유지한다.
+                fetched.putIfAbsent(ghPullRequest.getNumber(), PullRequest.of(repositoryFullName, ghPullRequest));
+            }
+            return new ArrayList<>(fetched.values());
+        } catch (IOException e) {
+            throw new BusinessException(e);
+        }
+    }
+}
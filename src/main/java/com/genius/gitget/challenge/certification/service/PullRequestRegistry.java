@@ -0,0 +1,176 @@
+package com.genius.gitget.challenge.certification.service;
+
+import com.genius.gitget.challenge.certification.dto.PullRequestClaim;
+import com.genius.gitget.challenge.certification.repository.CertificationLinkRepository;
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 하나의 PR이 여러 일자/챌린지의 인증에 사용되지 않도록 PR 사용 이력을 확인
+ * PR은 (레포지토리, PR 번호)로 식별하며, certification_link의 (repository_full_name, pr_number) unique key로 사용 이력을 조회한다.
+ * 당일 인증에 자주 조회되는 PR은 크기가 제한된 메모리 캐시에 보관하고, 일자가 바뀌면 캐시를 비운다.
+ * 캐시는 트랜잭션이 커밋된 이후에만 갱신하므로, 롤백된 인증이 PR을 점유하지 않는다.
+ * */
+@Slf4j
+@Service
+public class PullRequestRegistry {
+    private final CertificationLinkRepository certificationLinkRepository;
+    private final KstClock kstClock;
+    private final Map<String, PullRequestClaim> claims;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+    private LocalDate cachedDate;
+
+    public PullRequestRegistry(CertificationLinkRepository certificationLinkRepository,
+                               KstClock kstClock,
+                               @Value("${certification.pr-registry.max-size:10000}") int maxSize) {
+        this.certificationLinkRepository = certificationLinkRepository;
+        this.kstClock = kstClock;
+        this.claims = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PullRequestClaim> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public List<String> filterUnclaimed(PullRequestClaim claimant, List<String> pullRequests) {
+        return filterUnclaimed(claimant, pullRequests, new HashMap<>());
+    }
+
+    /*
+     * 다른 참여자/일자가 이미 사용한 PR을 제외한 목록 반환
+     * pending에는 같은 작업에서 앞서 허용한 PR이 기록되어, 한 번의 일괄 인증 안에서도 PR이 중복 사용되지 않는다.
+     * PR 형식이 아닌 링크는 식별할 수 없으므로 그대로 허용한다.
+     * */
+    public List<String> filterUnclaimed(PullRequestClaim claimant, List<String> pullRequests,
+                                        Map<String, PullRequestClaim> pending) {
+        List<String> accepted = new ArrayList<>();
+        for (String pullRequest : pullRequests) {
+            PullRequestUrl pullRequestUrl = PullRequestUrl.parse(pullRequest);
+            if (!pullRequestUrl.isPullRequest()) {
+                accepted.add(pullRequest);
+                continue;
+            }
+
+            String fingerprint = fingerprint(pullRequestUrl);
+            PullRequestClaim owner = pending.get(fingerprint);
+            if (owner == null) {
+                owner = findClaim(pullRequestUrl).orElse(null);
+            }
+            if (owner != null && !owner.equals(claimant)) {
+                conflictCount.incrementAndGet();
+                log.warn("PR {}은 참여자 {}의 {} 인증에 이미 사용되어, 참여자 {}의 {} 인증에서 제외합니다.",
+                        pullRequest, owner.participantId(), owner.certificatedAt(),
+                        claimant.participantId(), claimant.certificatedAt());
+                continue;
+            }
+            pending.put(fingerprint, claimant);
+            accepted.add(pullRequest);
+        }
+        return accepted;
+    }
+
+    public Optional<PullRequestClaim> findClaim(PullRequestUrl pullRequestUrl) {
+        String fingerprint = fingerprint(pullRequestUrl);
+        synchronized (claims) {
+            resetIfDateChanged();
+            PullRequestClaim cached = claims.get(fingerprint);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return Optional.of(cached);
+            }
+        }
+
+        missCount.incrementAndGet();
+        return certificationLinkRepository.findClaims(
+                        pullRequestUrl.repositoryFullName(), pullRequestUrl.prNumber())
+                .stream()
+                .findFirst();
+    }
+
+    /*
+     * 인증에 사용한 PR을 캐시에 등록
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 등록한다.
+     * */
+    public void register(PullRequestClaim claimant, List<String> pullRequests) {
+        afterCommit(() -> {
+            synchronized (claims) {
+                resetIfDateChanged();
+                for (String pullRequest : pullRequests) {
+                    PullRequestUrl pullRequestUrl = PullRequestUrl.parse(pullRequest);
+                    if (pullRequestUrl.isPullRequest()) {
+                        claims.put(fingerprint(pullRequestUrl), claimant);
+                    }
+                }
+            }
+        });
+    }
+
+    /*
+     * 인증에서 제외된 PR을 캐시에서 제거
+     * */
+    public void release(List<String> pullRequests) {
+        afterCommit(() -> {
+            synchronized (claims) {
+                for (String pullRequest : pullRequests) {
+                    PullRequestUrl pullRequestUrl = PullRequestUrl.parse(pullRequest);
+                    if (pullRequestUrl.isPullRequest()) {
+                        claims.remove(fingerprint(pullRequestUrl));
+                    }
+                }
+            }
+        });
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    private void resetIfDateChanged() {
+        LocalDate today = kstClock.today();
+        if (!today.equals(cachedDate)) {
+            claims.clear();
+            cachedDate = today;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String fingerprint(PullRequestUrl pullRequestUrl) {
+        return pullRequestUrl.repositoryFullName() + "#" + pullRequestUrl.prNumber();
+    }
+}
@@ -0,0 +1,184 @@
+package com.genius.gitget.challenge.certification.util;
+
+import com.genius.gitget.challenge.certification.util.GithubResponseStore.CachedResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/*
+ * ETag/Last-Modified 기반 조건부 요청을 수행하는 GitHubConnector
+ * 저장된 응답이 있으면 If-None-Match/If-Modified-Since 헤더를 추가하고,
+ * GitHub가 304(Not Modified)를 반환하면 저장된 응답을 그대로 돌려준다.
+ * 304 응답은 GitHub rate limit에 포함되지 않는다.
+ * */
+public class CachingGithubConnector implements GitHubConnector {
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("content-encoding", "content-length",
+            "transfer-encoding");
+
+    private final GitHubConnector delegate;
+    private final GithubResponseStore responseStore;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingGithubConnector(GitHubConnector delegate, GithubResponseStore responseStore) {
+        this.delegate = delegate;
+        this.responseStore = responseStore;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        if (!isCacheable(request)) {
+            return delegate.send(request);
+        }
+
+        String key = TokenFingerprint.of(request.header("Authorization") + " " + request.url());
+        Optional<CachedResponse> cached = responseStore.find(key);
+        GitHubConnectorRequest sending = cached
+                .map(response -> (GitHubConnectorRequest) new ConditionalRequest(request, response))
+                .orElse(request);
+
+        GitHubConnectorResponse response = delegate.send(sending);
+
+        if (response.statusCode() == NOT_MODIFIED && cached.isPresent()) {
+            hitCount.incrementAndGet();
+            response.close();
+            return toResponse(request, cached.get(), response.allHeaders());
+        }
+
+        missCount.incrementAndGet();
+        if (response.statusCode() != OK || !hasValidator(response)) {
+            return response;
+        }
+
+        CachedResponse fresh;
+        try (response) {
+            fresh = new CachedResponse(copyHeaders(response.allHeaders()), response.bodyStream().readAllBytes());
+        }
+        responseStore.save(key, fresh);
+        return toResponse(request, fresh, Map.of());
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private boolean isCacheable(GitHubConnectorRequest request) {
+        return "GET".equals(request.method()) && !request.hasBody();
+    }
+
+    private boolean hasValidator(GitHubConnectorResponse response) {
+        return response.header("ETag") != null || response.header("Last-Modified") != null;
+    }
+
+    /*
+     * 본문은 저장된 응답을 사용하고, rate limit 등 최신 상태를 나타내는 헤더는 304 응답의 값으로 덮어쓴다.
+     * */
+    private GitHubConnectorResponse toResponse(GitHubConnectorRequest request, CachedResponse cached,
+                                               Map<String, List<String>> freshHeaders) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(cached.headers());
+        freshHeaders.forEach((name, values) -> {
+            if (name != null && (name.toLowerCase().startsWith("x-ratelimit") || name.equalsIgnoreCase("date"))) {
+                headers.put(name, values);
+            }
+        });
+        return new CachedGitHubConnectorResponse(request, headers, cached.body());
+    }
+
+    private Map<String, List<String>> copyHeaders(Map<String, List<String>> source) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        source.forEach((name, values) -> {
+            if (name != null && !TRANSPORT_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        return headers;
+    }
+
+    private static class ConditionalRequest implements GitHubConnectorRequest {
+        private final GitHubConnectorRequest origin;
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        private ConditionalRequest(GitHubConnectorRequest origin, CachedResponse cached) {
+            this.origin = origin;
+            this.headers.putAll(origin.allHeaders());
+            cached.header("ETag").ifPresent(etag -> headers.put("If-None-Match", List.of(etag)));
+            cached.header("Last-Modified")
+                    .ifPresent(lastModified -> headers.put("If-Modified-Since", List.of(lastModified)));
+        }
+
+        @Override
+        public String method() {
+            return origin.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            List<String> values = headers.get(name);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            return String.join(", ", values);
+        }
+
+        @Override
+        public String contentType() {
+            return origin.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return origin.body();
+        }
+
+        @Override
+        public URL url() {
+            return origin.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return origin.hasBody();
+        }
+    }
+
+    private static class CachedGitHubConnectorResponse extends GitHubConnectorResponse {
+        private final byte[] body;
+
+        private CachedGitHubConnectorResponse(GitHubConnectorRequest request, Map<String, List<String>> headers,
+                                              byte[] body) {
+            super(request, OK, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,15 +1,37 @@
 package com.genius.gitget.challenge.certification.util;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public final class DateUtil {
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final ZoneRules KST_RULES = KST.getRules();
+    /*
+     * 현재 적용 중인 KST offset과 해당 offset이 유지되는 구간(epoch second)
+     * 구간 안의 시각은 ZoneRules를 조회하지 않고 offset 덧셈만으로 KST 일자를 계산한다.
+     * */
+    private static final int CURRENT_OFFSET_SECONDS;
+    private static final long CURRENT_OFFSET_SINCE;
+    private static final long CURRENT_OFFSET_UNTIL;
+
+    static {
+        Instant now = Instant.now();
+        ZoneOffsetTransition previous = KST_RULES.previousTransition(now);
+        ZoneOffsetTransition next = KST_RULES.nextTransition(now);
+        CURRENT_OFFSET_SECONDS = KST_RULES.getOffset(now).getTotalSeconds();
+        CURRENT_OFFSET_SINCE = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        CURRENT_OFFSET_UNTIL = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+    }
 
     public static int getRemainDaysToStart(LocalDate startDate, LocalDate targetDate) {
         if (targetDate.isBefore(startDate)) {
@@ -42,39 +64,33 @@ public final class DateUtil {
     }
 
     public static LocalDate convertToKST(Date date) {
-        return LocalDate.ofInstant(
-                date.toInstant(),
-                ZoneId.of("Asia/Seoul")
-        );
+        return LocalDate.ofEpochDay(toKstEpochDay(Math.floorDiv(date.getTime(), 1000L)));
     }
 
-    public static LocalDateTime getKstLocalTime() {
-        ZoneId systemZone = ZoneId.systemDefault();
-        ZoneId koreaZone = ZoneId.of("Asia/Seoul");
-
-        // LocalDate.now()를 호출하여 LocalDateTime을 생성
-        LocalDateTime nowLocal = LocalDateTime.now();
-        // 현재 시스템의 ZoneId를 이용하여 ZonedDateTime을 생성
-        ZonedDateTime nowZone = ZonedDateTime.of(nowLocal, systemZone);
-
-        // KST(Asia/Seoul)로 변환
-        ZonedDateTime koreaTime = nowZone.withZoneSameInstant(koreaZone);
+    public static LocalDate convertToKST(Instant instant) {
+        return LocalDate.ofEpochDay(toKstEpochDay(instant.getEpochSecond()));
+    }
 
-        // LocalDateTime으로 변환하여 반환
-        return koreaTime.toLocalDateTime();
+    public static LocalDateTime getKstLocalTime() {
+        return LocalDateTime.now(KST);
     }
 
+    /*
+     * 시스템 시간대 기준의 LocalDateTime을 KST 일자로 변환
+     * */
     public static LocalDate convertToKST(LocalDateTime nowLocal) {
-        ZoneId systemZone = ZoneId.systemDefault();
-        ZoneId koreaZone = ZoneId.of("Asia/Seoul");
-
-        // 현재 시스템의 ZoneId를 이용하여 ZonedDateTime을 생성
-        ZonedDateTime nowZone = ZonedDateTime.of(nowLocal, systemZone);
-
-        // KST(Asia/Seoul)로 변환
-        ZonedDateTime koreaTime = nowZone.withZoneSameInstant(koreaZone);
+        return convertToKST(nowLocal.atZone(ZoneId.systemDefault()).toInstant());
+    }
 
-        return koreaTime.toLocalDate();
+    /*
+     * epoch second를 KST 기준 epoch day로 변환
+     * */
+    public static long toKstEpochDay(long epochSecond) {
+        int offsetSeconds = CURRENT_OFFSET_SECONDS;
+        if (epochSecond < CURRENT_OFFSET_SINCE || epochSecond >= CURRENT_OFFSET_UNTIL) {
+            offsetSeconds = KST_RULES.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        return Math.floorDiv(epochSecond + offsetSeconds, SECONDS_PER_DAY);
     }
 
     private static boolean isFirstWeek(LocalDate challengeStartDate, LocalDate currentDate) {
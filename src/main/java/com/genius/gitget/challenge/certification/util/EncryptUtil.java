@@ -1,42 +1,96 @@
 package com.genius.gitget.challenge.certification.util;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.encrypt.AesBytesEncryptor;
 import org.springframework.stereotype.Component;
 
+/*
+ * 암호문은 "v2:" + Base64 형식으로 저장한다.
+ * 이전 형식(byte마다 부호 있는 10진수를 공백으로 구분한 문자열)도 그대로 복호화할 수 있으며,
+ * reencode()로 복호화 없이 암호문 byte를 새 형식으로 옮길 수 있다.
+ * */
 @Component
 @RequiredArgsConstructor
 public final class EncryptUtil {
+    public static final String VERSION_PREFIX = "v2:";
+
     private final AesBytesEncryptor encryptor;
 
     public String encrypt(String target) {
         byte[] encrypt = encryptor.encrypt(target.getBytes(StandardCharsets.UTF_8));
-        return byteArrayToString(encrypt);
+        return VERSION_PREFIX + Base64.getEncoder().encodeToString(encrypt);
     }
 
     public String decrypt(String encrypted) {
-        byte[] decryptBytes = stringToByteArray(encrypted);
-        byte[] decrypt = encryptor.decrypt(decryptBytes);
+        byte[] decrypt = encryptor.decrypt(decode(encrypted));
         return new String(decrypt, StandardCharsets.UTF_8);
     }
 
-    private String byteArrayToString(byte[] bytes) {
-        StringBuilder builder = new StringBuilder();
-        for (byte aByte : bytes) {
-            builder.append(aByte);
-            builder.append(" ");
+    public static boolean isLegacy(String encrypted) {
+        return encrypted != null && !encrypted.startsWith(VERSION_PREFIX);
+    }
+
+    /*
+     * 이전 형식의 암호문을 같은 암호문 byte의 새 형식으로 변환
+     * 암호문 자체는 바뀌지 않으므로 복호화/재암호화가 필요하지 않다.
+     * */
+    public static String reencode(String encrypted) {
+        if (!isLegacy(encrypted)) {
+            return encrypted;
         }
-        return builder.toString();
+        return VERSION_PREFIX + Base64.getEncoder().encodeToString(legacyStringToByteArray(encrypted));
     }
 
-    private byte[] stringToByteArray(String byteString) {
-        String[] split = byteString.split("\\s");
-        ByteBuffer buffer = ByteBuffer.allocate(split.length);
-        for (String single : split) {
-            buffer.put((byte) Integer.parseInt(single));
+    private static byte[] decode(String encrypted) {
+        if (encrypted.startsWith(VERSION_PREFIX)) {
+            return Base64.getDecoder().decode(encrypted.substring(VERSION_PREFIX.length()));
+        }
+        return legacyStringToByteArray(encrypted);
+    }
+
+    /*
+     * 공백으로 구분된 10진수 문자열을 byte 배열로 변환
+     * 숫자 개수를 먼저 센 뒤 한 번 더 순회하며 값을 채우므로, byte마다 문자열을 만들지 않는다.
+     * */
+    private static byte[] legacyStringToByteArray(String byteString) {
+        int count = 0;
+        boolean inNumber = false;
+        for (int i = 0; i < byteString.length(); i++) {
+            boolean whitespace = Character.isWhitespace(byteString.charAt(i));
+            if (!whitespace && !inNumber) {
+                count++;
+            }
+            inNumber = !whitespace;
+        }
+
+        byte[] bytes = new byte[count];
+        int index = 0;
+        int value = 0;
+        boolean negative = false;
+        inNumber = false;
+        for (int i = 0; i <= byteString.length(); i++) {
+            char current = i < byteString.length() ? byteString.charAt(i) : ' ';
+            if (Character.isWhitespace(current)) {
+                if (inNumber) {
+                    bytes[index++] = (byte) (negative ? -value : value);
+                }
+                inNumber = false;
+                value = 0;
+                negative = false;
+                continue;
+            }
+
+            inNumber = true;
+            if (current == '-') {
+                negative = true;
+            } else if (current >= '0' && current <= '9') {
+                value = value * 10 + (current - '0');
+            } else {
+                throw new IllegalArgumentException("잘못된 암호문 형식입니다.");
+            }
         }
-        return buffer.array();
+        return bytes;
     }
 }
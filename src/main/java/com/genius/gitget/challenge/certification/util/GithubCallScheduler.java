@@ -0,0 +1,230 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static com.genius.gitget.global.util.exception.ErrorCode.GITHUB_RATE_LIMITED;
+
+import com.genius.gitget.global.util.exception.BusinessException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/*
+ * 모든 GitHub API 호출이 거쳐가는 rate limit 스케줄러
+ * 응답 헤더(X-RateLimit-*)로 토큰별 core/search 잔여 요청 수를 추적하여 한도에 가까우면 reset 시각까지 대기시키고,
+ * secondary rate limit(Retry-After 또는 본문에 명시된 403/429)을 받으면 jitter가 포함된 지수 backoff 후 재시도하고,
+ * 잔여 요청 수가 0인 403/429는 reset 시각까지의 budget 대기로 처리한다. 그 외의 403은 재시도하지 않는다.
+ * */
+@Slf4j
+public class GithubCallScheduler implements GitHubConnector {
+    private static final String CORE = "core";
+    private static final String SEARCH = "search";
+    private static final String SECONDARY_RATE_LIMIT_MESSAGE = "secondary rate limit";
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("content-encoding", "content-length",
+            "transfer-encoding");
+
+    private final GitHubConnector delegate;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+
+    private final int coreReserve;
+    private final int searchReserve;
+    private final Duration maxWait;
+    private final Duration baseBackoff;
+    private final int maxRetries;
+
+    public GithubCallScheduler(GitHubConnector delegate, int coreReserve, int searchReserve,
+                               Duration maxWait, Duration baseBackoff, int maxRetries) {
+        this.delegate = delegate;
+        this.coreReserve = coreReserve;
+        this.searchReserve = searchReserve;
+        this.maxWait = maxWait;
+        this.baseBackoff = baseBackoff;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        String resource = getResource(request);
+        String budgetKey = TokenFingerprint.of(request.header("Authorization") + " " + resource);
+
+        for (int attempt = 0; ; attempt++) {
+            awaitBudget(budgetKey, resource);
+
+            GitHubConnectorResponse response = delegate.send(request);
+            updateBudget(budgetKey, response);
+
+            if (!isLimitStatus(response) || attempt >= maxRetries || request.hasBody()) {
+                return response;
+            }
+
+            // primary rate limit: 기록된 budget으로 reset 시각까지 대기하거나, 너무 길다면 awaitBudget에서 실패 처리
+            if ("0".equals(response.header("X-RateLimit-Remaining"))) {
+                response.close();
+                continue;
+            }
+
+            response = bufferBody(request, response);
+            if (!isSecondaryRateLimited(response)) {
+                return response;
+            }
+
+            long backoffMillis = getBackoffMillis(response, attempt);
+            log.warn("GitHub secondary rate limit 발생: {}ms 후 재시도 ({}/{})", backoffMillis, attempt + 1, maxRetries);
+            await(backoffMillis);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getTotalWaitMillis() {
+        return totalWaitMillis.get();
+    }
+
+    private String getResource(GitHubConnectorRequest request) {
+        if (request.url().getPath().startsWith("/search")) {
+            return SEARCH;
+        }
+        return CORE;
+    }
+
+    /*
+     * 잔여 요청 수가 예약분 이하라면 reset 시각까지 대기
+     * 대기 시간이 maxWait보다 길다면 사용자 요청을 붙잡아두지 않는데,
+     * 아직 요청이 남아있다면 그대로 보내고 잔여 요청 수가 0일 때만 실패 처리한다.
+     * */
+    private void awaitBudget(String budgetKey, String resource) throws IOException {
+        Budget budget = budgets.get(budgetKey);
+        int reserve = SEARCH.equals(resource) ? searchReserve : coreReserve;
+        if (budget == null || budget.remaining() > reserve) {
+            return;
+        }
+
+        long waitMillis = budget.resetEpochMillis() - System.currentTimeMillis();
+        if (waitMillis <= 0) {
+            budgets.remove(budgetKey, budget);
+            return;
+        }
+        if (waitMillis > maxWait.toMillis()) {
+            if (budget.remaining() > 0) {
+                return;
+            }
+            throw new BusinessException(GITHUB_RATE_LIMITED);
+        }
+        await(waitMillis);
+    }
+
+    private void updateBudget(String budgetKey, GitHubConnectorResponse response) {
+        String remaining = response.header("X-RateLimit-Remaining");
+        String reset = response.header("X-RateLimit-Reset");
+        if (remaining == null || reset == null) {
+            return;
+        }
+
+        try {
+            budgets.put(budgetKey, new Budget(Integer.parseInt(remaining), Long.parseLong(reset) * 1000));
+        } catch (NumberFormatException e) {
+            log.debug("GitHub rate limit 헤더를 해석할 수 없습니다: remaining={}, reset={}", remaining, reset);
+        }
+    }
+
+    private boolean isLimitStatus(GitHubConnectorResponse response) {
+        int status = response.statusCode();
+        return status == 403 || status == 429;
+    }
+
+    /*
+     * 권한 부족 등 일반적인 403은 재시도하지 않도록, Retry-After 헤더가 있거나 본문에 secondary rate limit이 명시된 경우만 해당
+     * */
+    private boolean isSecondaryRateLimited(GitHubConnectorResponse response) throws IOException {
+        if (response.header("Retry-After") != null) {
+            return true;
+        }
+        String body = new String(response.bodyStream().readAllBytes(), StandardCharsets.UTF_8);
+        return body.toLowerCase().contains(SECONDARY_RATE_LIMIT_MESSAGE);
+    }
+
+    /*
+     * 본문을 확인한 뒤에도 호출한 쪽에서 다시 읽을 수 있도록 메모리에 담아둔다.
+     * 담아둔 본문은 이미 압축이 풀린 상태이므로, 다시 풀지 않도록 전송 관련 헤더는 제외한다.
+     * */
+    private GitHubConnectorResponse bufferBody(GitHubConnectorRequest request, GitHubConnectorResponse response)
+            throws IOException {
+        try (response) {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            response.allHeaders().forEach((name, values) -> {
+                if (name != null && !TRANSPORT_HEADERS.contains(name.toLowerCase())) {
+                    headers.put(name, values);
+                }
+            });
+            return new BufferedGitHubConnectorResponse(
+                    request, response.statusCode(), headers, response.bodyStream().readAllBytes());
+        }
+    }
+
+    private long getBackoffMillis(GitHubConnectorResponse response, int attempt) {
+        String retryAfter = response.header("Retry-After");
+        long jitter = ThreadLocalRandom.current().nextLong(baseBackoff.toMillis() + 1);
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter) * 1000 + jitter;
+            } catch (NumberFormatException ignored) {
+                // Retry-After가 HTTP-date 형식이라면 지수 backoff로 대체
+            }
+        }
+        return baseBackoff.toMillis() * (1L << attempt) + jitter;
+    }
+
+    private void await(long millis) throws IOException {
+        queueDepth.incrementAndGet();
+        long startedAt = System.nanoTime();
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("GitHub rate limit 대기 중 인터럽트가 발생했습니다.");
+        } finally {
+            queueDepth.decrementAndGet();
+            totalWaitMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    private record Budget(int remaining, long resetEpochMillis) {
+    }
+
+    private static class BufferedGitHubConnectorResponse extends GitHubConnectorResponse {
+        private final byte[] body;
+
+        private BufferedGitHubConnectorResponse(GitHubConnectorRequest request, int statusCode,
+                                                Map<String, List<String>> headers, byte[] body) {
+            super(request, statusCode, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
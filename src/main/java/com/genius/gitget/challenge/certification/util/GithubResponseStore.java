@@ -0,0 +1,228 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * GitHub API 응답을 로컬 디스크에 저장하는 크기 제한 저장소
+ * 재시작 이후에도 ETag/Last-Modified 기반 조건부 요청을 이어갈 수 있도록 파일로 보관하며,
+ * 전체 크기가 maxBytes를 넘으면 가장 오래 사용되지 않은 응답부터 삭제한다.
+ * */
+@Slf4j
+public class GithubResponseStore {
+    private static final String SUFFIX = ".res";
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Map<String, Long> entrySizes = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public GithubResponseStore(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        loadEntries();
+    }
+
+    public Optional<CachedResponse> find(String key) {
+        Path path = resolve(key);
+        if (!entrySizes.containsKey(key)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            CachedResponse response = read(input);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(response);
+        } catch (NoSuchFileException e) {
+            forget(key);
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("GitHub 응답 캐시를 읽을 수 없어 삭제합니다: {}", path, e);
+            delete(key);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String key, CachedResponse response) {
+        Path path = resolve(key);
+        try {
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(output, response);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long size = Files.size(path);
+            Long previous = entrySizes.put(key, size);
+            totalBytes.addAndGet(size - (previous == null ? 0 : previous));
+        } catch (IOException e) {
+            log.warn("GitHub 응답 캐시를 저장하지 못했습니다: {}", path, e);
+            return;
+        }
+
+        if (totalBytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    public int size() {
+        return entrySizes.size();
+    }
+
+    private void loadEntries() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.forEach(path -> {
+                    String fileName = path.getFileName().toString();
+                    if (!fileName.endsWith(SUFFIX)) {
+                        deleteQuietly(path);
+                        return;
+                    }
+                    String key = fileName.substring(0, fileName.length() - SUFFIX.length());
+                    long size = sizeOf(path);
+                    entrySizes.put(key, size);
+                    totalBytes.addAndGet(size);
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * 마지막 사용 시각이 오래된 순서대로 삭제하여 최대 크기의 90% 이하로 유지
+     * */
+    private synchronized void evict() {
+        long target = maxBytes * 9 / 10;
+        if (totalBytes.get() <= target) {
+            return;
+        }
+
+        List<Path> candidates = new ArrayList<>();
+        entrySizes.keySet().forEach(key -> candidates.add(resolve(key)));
+        candidates.sort(Comparator.comparing(this::lastModified));
+
+        for (Path candidate : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            String fileName = candidate.getFileName().toString();
+            delete(fileName.substring(0, fileName.length() - SUFFIX.length()));
+        }
+    }
+
+    private void delete(String key) {
+        deleteQuietly(resolve(key));
+        forget(key);
+    }
+
+    private void forget(String key) {
+        Long size = entrySizes.remove(key);
+        if (size != null) {
+            totalBytes.addAndGet(-size);
+        }
+    }
+
+    private Path resolve(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("GitHub 응답 캐시 파일을 삭제하지 못했습니다: {}", path, e);
+        }
+    }
+
+    private void write(DataOutputStream output, CachedResponse response) throws IOException {
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(response.headers().size());
+        for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+            output.writeUTF(header.getKey());
+            output.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                output.writeUTF(value);
+            }
+        }
+        output.writeInt(response.body().length);
+        output.write(response.body());
+    }
+
+    private CachedResponse read(DataInputStream input) throws IOException {
+        if (input.readInt() != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 캐시 형식입니다.");
+        }
+
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        int headerCount = input.readInt();
+        for (int i = 0; i < headerCount; i++) {
+            String name = input.readUTF();
+            int valueCount = input.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(input.readUTF());
+            }
+            headers.put(name, values);
+        }
+
+        byte[] body = new byte[input.readInt()];
+        input.readFully(body);
+        return new CachedResponse(headers, body);
+    }
+
+    public record CachedResponse(
+            Map<String, List<String>> headers,
+            byte[] body
+    ) {
+        public Optional<String> header(String name) {
+            List<String> values = headers.get(name);
+            if (values == null || values.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(values.get(0));
+        }
+    }
+}
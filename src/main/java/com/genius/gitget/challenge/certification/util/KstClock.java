@@ -0,0 +1,27 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Component;
+
+/*
+ * 주입받은 Clock 기준의 KST 현재 일자/시각
+ * 테스트에서는 고정된 Clock을 주입하여 날짜에 의존하는 로직을 결정적으로 검증할 수 있다.
+ * */
+@Component
+public class KstClock {
+    private final Clock clock;
+
+    public KstClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    public LocalDate today() {
+        return DateUtil.convertToKST(clock.instant());
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), DateUtil.KST);
+    }
+}
@@ -0,0 +1,152 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * 여러 PR 템플릿(GITGET-<uuid>-<date>)을 하나의 Aho-Corasick 오토마톤으로 미리 컴파일한 matcher
+ * 템플릿 개수와 상관없이 PR 본문을 한 번만 순회하여, 본문에 포함된 모든 템플릿의 key를 반환한다.
+ * 템플릿은 ASCII 문자로만 구성되므로 상태 전이는 128칸 배열로 표현하고, ASCII 밖의 문자는 루트로 전이한다.
+ * */
+public final class PrTemplateMatcher<K> {
+    private static final int ALPHABET = 128;
+    private static final int ROOT = 0;
+
+    private final int[][] transitions;
+    private final int[] outputLinks;
+    private final List<List<K>> outputs;
+    private final int keyCount;
+
+    private PrTemplateMatcher(Map<K, String> templates) {
+        List<int[]> gotoTable = new ArrayList<>();
+        List<List<K>> outputTable = new ArrayList<>();
+        gotoTable.add(newState());
+        outputTable.add(new ArrayList<>());
+
+        for (Entry<K, String> entry : templates.entrySet()) {
+            String template = entry.getValue();
+            if (template == null || template.isEmpty()) {
+                throw new IllegalArgumentException("PR 템플릿은 비어있을 수 없습니다.");
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < template.length(); i++) {
+                int c = template.charAt(i);
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("PR 템플릿은 ASCII 문자로만 구성되어야 합니다: " + template);
+                }
+                if (gotoTable.get(state)[c] < 0) {
+                    gotoTable.get(state)[c] = gotoTable.size();
+                    gotoTable.add(newState());
+                    outputTable.add(new ArrayList<>());
+                }
+                state = gotoTable.get(state)[c];
+            }
+            outputTable.get(state).add(entry.getKey());
+        }
+
+        this.transitions = gotoTable.toArray(new int[0][]);
+        this.outputs = outputTable;
+        this.outputLinks = new int[transitions.length];
+        this.keyCount = templates.size();
+        buildFailureTransitions();
+    }
+
+    public static <K> PrTemplateMatcher<K> of(Map<K, String> templates) {
+        return new PrTemplateMatcher<>(templates);
+    }
+
+    /*
+     * 본문에 포함된 템플릿의 key를 템플릿이 처음 등장한 순서대로 반환
+     * */
+    public Set<K> match(String body) {
+        if (body == null || keyCount == 0) {
+            return Collections.emptySet();
+        }
+
+        Set<K> matched = new LinkedHashSet<>();
+        int state = ROOT;
+        for (int i = 0; i < body.length(); i++) {
+            int c = body.charAt(i);
+            state = c < ALPHABET ? transitions[state][c] : ROOT;
+
+            for (int output = state; output != ROOT; output = outputLinks[output]) {
+                matched.addAll(outputs.get(output));
+            }
+            if (matched.size() == keyCount) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    /*
+     * 각 항목의 본문을 한 번씩만 순회하여, 템플릿 key별로 해당 템플릿을 포함한 항목을 모은다.
+     * */
+    public <T> Map<K, List<T>> matchAll(Collection<T> items, Function<T, String> bodyExtractor) {
+        Map<K, List<T>> matched = new LinkedHashMap<>();
+        for (T item : items) {
+            for (K key : match(bodyExtractor.apply(item))) {
+                matched.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            }
+        }
+        return matched;
+    }
+
+    public boolean isEmpty() {
+        return keyCount == 0;
+    }
+
+    /*
+     * BFS로 실패 함수를 계산하면서 누락된 전이를 실패 상태의 전이로 채워 결정적 오토마톤으로 만든다.
+     * outputLinks는 출력이 있는 가장 가까운 접미사 상태를 가리켜, 매칭 시 출력이 없는 상태를 건너뛸 수 있게 한다.
+     * */
+    private void buildFailureTransitions() {
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[ROOT][c];
+            if (next < 0) {
+                transitions[ROOT][c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                outputLinks[next] = ROOT;
+                queue.add(next);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                    continue;
+                }
+
+                int fallback = transitions[failure[state]][c];
+                failure[next] = fallback;
+                outputLinks[next] = outputs.get(fallback).isEmpty() ? outputLinks[fallback] : fallback;
+                queue.add(next);
+            }
+        }
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
@@ -0,0 +1,61 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * GitHub PR 링크(https://github.com/{owner}/{repo}/pull/{number})에서 레포지토리 이름과 PR 번호를 추출
+ * 형식이 맞지 않는 링크는 레포지토리 이름과 PR 번호 없이 링크만 가진다.
+ * */
+public record PullRequestUrl(
+        String url,
+        String repositoryFullName,
+        Integer prNumber
+) {
+    private static final String PULL_SEGMENT = "/pull/";
+
+    public static PullRequestUrl parse(String url) {
+        int hostEnd = url.indexOf("github.com/");
+        int pullStart = url.indexOf(PULL_SEGMENT);
+        if (hostEnd < 0 || pullStart < 0) {
+            return new PullRequestUrl(url, null, null);
+        }
+
+        String repositoryFullName = url.substring(hostEnd + "github.com/".length(), pullStart);
+        int numberStart = pullStart + PULL_SEGMENT.length();
+        int numberEnd = numberStart;
+        while (numberEnd < url.length() && Character.isDigit(url.charAt(numberEnd))) {
+            numberEnd++;
+        }
+        if (numberEnd == numberStart || repositoryFullName.indexOf('/') < 0) {
+            return new PullRequestUrl(url, null, null);
+        }
+        return new PullRequestUrl(url, repositoryFullName, Integer.parseInt(url.substring(numberStart, numberEnd)));
+    }
+
+    /*
+     * 쉼표로 이어 붙인 기존 인증 링크 문자열을 링크 목록으로 분리
+     * 정규식 기반의 split 대신 한 번의 순회로 분리하며, 빈 항목은 제외한다.
+     * */
+    public static List<String> splitLinks(String certificationLinks) {
+        List<String> links = new ArrayList<>();
+        if (certificationLinks == null) {
+            return links;
+        }
+
+        int start = 0;
+        for (int i = 0; i <= certificationLinks.length(); i++) {
+            if (i == certificationLinks.length() || certificationLinks.charAt(i) == ',') {
+                if (i > start) {
+                    links.add(certificationLinks.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return links;
+    }
+
+    public boolean isPullRequest() {
+        return prNumber != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class TokenFingerprint {
+
+    private TokenFingerprint() {
+    }
+
+    /*
+     * 토큰 원문을 캐시 key로 사용하지 않기 위해 SHA-256 해시값으로 변환
+     * */
+    public static String of(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.genius.gitget.challenge.certification.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+public final class WebhookSignature {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PREFIX = "sha256=";
+
+    private WebhookSignature() {
+    }
+
+    /*
+     * X-Hub-Signature-256 헤더 검증
+     * 비교 시간으로 서명 값이 유추되지 않도록 MessageDigest.isEqual로 비교한다.
+     * */
+    public static boolean isValid(String secret, byte[] payload, String signature) {
+        if (secret == null || secret.isBlank() || signature == null || !signature.startsWith(PREFIX)) {
+            return false;
+        }
+
+        byte[] expected = sign(secret, payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    public static String sign(String secret, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return PREFIX + HexFormat.of().formatHex(mac.doFinal(payload));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
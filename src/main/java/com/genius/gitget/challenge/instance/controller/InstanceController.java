@@ -3,7 +3,7 @@ package com.genius.gitget.challenge.instance.controller;
 import static com.genius.gitget.global.util.exception.SuccessCode.CREATED;
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.instance.dto.crud.InstanceCreateRequest;
 import com.genius.gitget.challenge.instance.dto.crud.InstanceDetailResponse;
 import com.genius.gitget.challenge.instance.dto.crud.InstanceIndexResponse;
@@ -14,7 +14,6 @@ import com.genius.gitget.global.util.response.dto.CommonResponse;
 import com.genius.gitget.global.util.response.dto.PagingResponse;
 import com.genius.gitget.global.util.response.dto.SingleResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -36,12 +35,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class InstanceController {
     private final InstanceFacade instanceFacade;
+    private final KstClock kstClock;
 
     // 인스턴스 생성
     @PostMapping("/instance")
     public ResponseEntity<SingleResponse<InstanceIndexResponse>> createInstance(
             @RequestBody InstanceCreateRequest instanceCreateRequest) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         Long instanceId = instanceFacade.createInstance(instanceCreateRequest, kstDate);
         InstanceIndexResponse instanceIndexResponse = new InstanceIndexResponse(instanceId);
 
@@ -4,7 +4,7 @@ import static com.genius.gitget.global.util.exception.SuccessCode.JOIN_SUCCESS;
 import static com.genius.gitget.global.util.exception.SuccessCode.QUIT_SUCCESS;
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.instance.dto.detail.InstanceResponse;
 import com.genius.gitget.challenge.instance.dto.detail.JoinRequest;
 import com.genius.gitget.challenge.instance.dto.detail.JoinResponse;
@@ -13,7 +13,6 @@ import com.genius.gitget.challenge.user.domain.User;
 import com.genius.gitget.global.util.annotation.GitGetUser;
 import com.genius.gitget.global.util.response.dto.SingleResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/challenges")
 public class InstanceDetailController {
     private final InstanceDetailFacade instanceDetailFacade;
+    private final KstClock kstClock;
 
 
     @GetMapping("/{instanceId}")
@@ -52,7 +52,7 @@ public class InstanceDetailController {
             @PathVariable Long instanceId,
             @RequestParam String repo
     ) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         JoinRequest joinRequest = JoinRequest.builder()
                 .instanceId(instanceId)
                 .repository(repo)
@@ -18,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -39,7 +40,9 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-@Table(name = "instance")
+@Table(
+        name = "instance",
+        indexes = @Index(name = "idx_instance_progress_period", columnList = "progress, started_at, completed_at"))
 public class Instance implements FileHolder {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,11 +2,15 @@ package com.genius.gitget.challenge.instance.repository;
 
 import com.genius.gitget.challenge.instance.domain.Instance;
 import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.schedule.dto.InstanceSchedule;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -26,4 +30,59 @@ public interface InstanceRepository extends JpaRepository<Instance, Long> {
 
     @Query("select i from Instance i where i.progress = :progress")
     List<Instance> findAllByProgress(@Param("progress") Progress progress);
+
+    /*
+     * 시작일이 되었고 아직 종료일 전인 PREACTIVITY 인스턴스 id
+     * nextDayStart: 기준일 다음 날 00:00 -> (progress, started_at, completed_at) 인덱스 범위 조건으로 사용
+     * */
+    @Query("select i.id from Instance i where i.progress = :progress and i.id > :lastId "
+            + "and i.startedDate < :nextDayStart and i.completedDate >= :nextDayStart order by i.id")
+    Slice<Long> findIdsToActivate(@Param("progress") Progress progress,
+                                  @Param("nextDayStart") LocalDateTime nextDayStart,
+                                  @Param("lastId") Long lastId,
+                                  Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Instance i set i.progress = :target where i.progress = :progress "
+            + "and i.startedDate < :nextDayStart and i.completedDate >= :nextDayStart")
+    int bulkUpdateToActivity(@Param("progress") Progress progress,
+                             @Param("target") Progress target,
+                             @Param("nextDayStart") LocalDateTime nextDayStart);
+
+    /*
+     * 시작일과 종료일이 모두 지난(dayStart 이전) 인스턴스
+     * */
+    @Query("select i from Instance i where i.progress in :progresses and i.id > :lastId "
+            + "and i.startedDate < :dayStart and i.completedDate < :dayStart order by i.id")
+    Slice<Instance> findChunkToDone(@Param("progresses") Collection<Progress> progresses,
+                                    @Param("dayStart") LocalDateTime dayStart,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Instance i set i.progress = :progress where i.id in :instanceIds")
+    int updateProgressByIds(@Param("instanceIds") Collection<Long> instanceIds,
+                            @Param("progress") Progress progress);
+
+    @Query("select i.id from Instance i where i.id in :instanceIds and i.progress = :progress "
+            + "and i.startedDate < :nextDayStart and i.completedDate >= :nextDayStart")
+    List<Long> findIdsToActivateIn(@Param("instanceIds") Collection<Long> instanceIds,
+                                   @Param("progress") Progress progress,
+                                   @Param("nextDayStart") LocalDateTime nextDayStart);
+
+    @Query("select i from Instance i where i.id in :instanceIds and i.progress in :progresses "
+            + "and i.startedDate < :dayStart and i.completedDate < :dayStart")
+    List<Instance> findToDoneIn(@Param("instanceIds") Collection<Long> instanceIds,
+                                @Param("progresses") Collection<Progress> progresses,
+                                @Param("dayStart") LocalDateTime dayStart);
+
+    @Query("select new com.genius.gitget.schedule.dto.InstanceSchedule(i.id, i.progress, i.startedDate, i.completedDate) "
+            + "from Instance i where i.progress in :progresses and i.id > :lastId order by i.id")
+    Slice<InstanceSchedule> findSchedules(@Param("progresses") Collection<Progress> progresses,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
+
+    @Query("select new com.genius.gitget.schedule.dto.InstanceSchedule(i.id, i.progress, i.startedDate, i.completedDate) "
+            + "from Instance i where i.id in :instanceIds")
+    List<InstanceSchedule> findSchedulesByIds(@Param("instanceIds") Collection<Long> instanceIds);
 }
@@ -11,6 +11,8 @@ import com.genius.gitget.global.file.domain.Files;
 import com.genius.gitget.global.file.service.FilesManager;
 import com.genius.gitget.global.util.exception.BusinessException;
 import com.genius.gitget.global.util.exception.ErrorCode;
+import com.genius.gitget.schedule.dto.InstanceSchedule;
+import com.genius.gitget.schedule.service.InstanceTransitionWheel;
 import com.genius.gitget.topic.domain.Topic;
 import com.genius.gitget.topic.repository.TopicRepository;
 import java.time.LocalDate;
@@ -29,6 +31,7 @@ public class InstanceService {
     private final InstanceRepository instanceRepository;
     private final TopicRepository topicRepository;
     private final FilesManager filesManager;
+    private final InstanceTransitionWheel instanceTransitionWheel;
 
     @NotNull
     private String getUuid() {
@@ -54,7 +57,10 @@ public class InstanceService {
         instance.setInstanceUUID(uuid);
         instance.setTopic(topic);
 
-        return instanceRepository.save(instance).getId();
+        Instance savedInstance = instanceRepository.save(instance);
+        instanceTransitionWheel.schedule(InstanceSchedule.of(savedInstance));
+
+        return savedInstance.getId();
     }
 
     // 인스턴스 수정
@@ -68,6 +74,7 @@ public class InstanceService {
                 instanceUpdateDTO.completedDate(), instanceUpdateDTO.certificationMethod());
 
         Instance savedInstance = instanceRepository.save(existingInstance);
+        instanceTransitionWheel.schedule(InstanceSchedule.of(savedInstance));
 
         return savedInstance.getId();
     }
@@ -86,6 +93,7 @@ public class InstanceService {
             instance.setFiles(null);
         }
         instanceRepository.delete(instance);
+        instanceTransitionWheel.remove(id);
     }
 
     // 인스턴스 단건 조회
@@ -2,7 +2,7 @@ package com.genius.gitget.challenge.myChallenge.controller;
 
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.myChallenge.dto.ActivatedResponse;
 import com.genius.gitget.challenge.myChallenge.dto.DoneResponse;
 import com.genius.gitget.challenge.myChallenge.dto.PreActivityResponse;
@@ -13,7 +13,6 @@ import com.genius.gitget.global.util.annotation.GitGetUser;
 import com.genius.gitget.global.util.response.dto.ListResponse;
 import com.genius.gitget.global.util.response.dto.SingleResponse;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,13 +28,14 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin
 public class MyChallengeController {
     private final MyChallengeFacade myChallengeFacade;
+    private final KstClock kstClock;
 
     @GetMapping("/my/pre-activity")
     public ResponseEntity<ListResponse<PreActivityResponse>> getPreActivityChallenges(
             @GitGetUser User user
     ) {
         List<PreActivityResponse> preActivityInstances = myChallengeFacade.getPreActivityInstances(
-                user, DateUtil.convertToKST(LocalDateTime.now()));
+                user, kstClock.today());
 
         return ResponseEntity.ok().body(
                 new ListResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), preActivityInstances)
@@ -48,7 +48,7 @@ public class MyChallengeController {
             @GitGetUser User user
     ) {
         List<ActivatedResponse> activatedInstances = myChallengeFacade.getActivatedInstances(
-                user, DateUtil.convertToKST(LocalDateTime.now()));
+                user, kstClock.today());
 
         return ResponseEntity.ok().body(
                 new ListResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), activatedInstances)
@@ -60,7 +60,7 @@ public class MyChallengeController {
             @GitGetUser User user
     ) {
         List<DoneResponse> doneInstances = myChallengeFacade.getDoneInstances(
-                user, DateUtil.convertToKST(LocalDateTime.now()));
+                user, kstClock.today());
 
         return ResponseEntity.ok().body(
                 new ListResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), doneInstances)
@@ -72,7 +72,7 @@ public class MyChallengeController {
             @GitGetUser User user,
             @PathVariable Long instanceId
     ) {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        LocalDate kstDate = kstClock.today();
         RewardRequest rewardRequest = new RewardRequest(user.getId(), instanceId, kstDate);
         DoneResponse doneResponse = myChallengeFacade.getRewards(rewardRequest);
 
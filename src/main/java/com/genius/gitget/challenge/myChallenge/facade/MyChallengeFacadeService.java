@@ -1,11 +1,11 @@
 package com.genius.gitget.challenge.myChallenge.facade;
 
-import static com.genius.gitget.challenge.certification.domain.CertificateStatus.NOT_YET;
 import static com.genius.gitget.challenge.participant.domain.RewardStatus.NO;
 import static com.genius.gitget.store.item.domain.ItemCategory.CERTIFICATION_PASSER;
 import static com.genius.gitget.store.item.domain.ItemCategory.POINT_MULTIPLIER;
 
-import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import com.genius.gitget.challenge.certification.dto.StatusCount;
 import com.genius.gitget.challenge.certification.service.CertificationService;
 import com.genius.gitget.challenge.certification.util.DateUtil;
 import com.genius.gitget.challenge.instance.domain.Instance;
@@ -25,6 +25,7 @@ import com.genius.gitget.store.item.service.OrdersService;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,22 +58,29 @@ public class MyChallengeFacadeService implements MyChallengeFacade {
         return preActivity;
     }
 
+    /*
+     * 오늘의 인증은 자정 이후 MissedCertificationService에서 미리 생성하므로, 조회 시에는 저장하지 않는다.
+     * 아직 생성되지 않은 인증은 NOT_YET으로 간주한다.
+     * */
     @Override
     public List<ActivatedResponse> getActivatedInstances(User user, LocalDate targetDate) {
         List<ActivatedResponse> activated = new ArrayList<>();
         List<Participant> participants = participantService.findJoinedByProgress(user.getId(), Progress.ACTIVITY);
+        if (participants.isEmpty()) {
+            return activated;
+        }
+
+        Map<Long, CertificateStatus> statuses = certificationService.findStatusByDate(
+                targetDate, participants.stream().map(Participant::getId).toList());
+        Item item = itemService.findAllByCategory(CERTIFICATION_PASSER).get(0);
+        int numOfPassItem = ordersService.countNumOfItem(user, item.getId());
 
         for (Participant participant : participants) {
             Instance instance = participant.getInstance();
             FileResponse fileResponse = filesManager.convertToFileResponse(instance.getFiles());
 
-            Certification certification = certificationService.findOrSave(participant, NOT_YET, targetDate);
-
-            Item item = itemService.findAllByCategory(CERTIFICATION_PASSER).get(0);
-            int numOfPassItem = ordersService.countNumOfItem(user, item.getId());
-
             ActivatedResponse activatedResponse = ActivatedResponse.of(
-                    instance, certification.getCertificationStatus(),
+                    instance, statuses.get(participant.getId()),
                     numOfPassItem, participant.getRepositoryName(), fileResponse
             );
             activatedResponse.setItemId(item.getId());
@@ -85,12 +93,14 @@ public class MyChallengeFacadeService implements MyChallengeFacade {
     public List<DoneResponse> getDoneInstances(User user, LocalDate targetDate) {
         List<DoneResponse> done = new ArrayList<>();
         List<Participant> participants = participantService.findDoneInstances(user.getId());
+        Map<Long, StatusCount> statusCounts = certificationService.countByStatus(
+                participants.stream().map(Participant::getId).toList(), targetDate);
 
         for (Participant participant : participants) {
             Instance instance = participant.getInstance();
             FileResponse fileResponse = filesManager.convertToFileResponse(instance.getFiles());
-            double achievementRate = certificationService.getAchievementRate(instance, participant.getId(),
-                    targetDate);
+            double achievementRate = certificationService.getAchievementRate(
+                    instance, statusCounts.get(participant.getId()));
 
             // 포인트를 아직 수령하지 않았을 때
             if (participant.getRewardStatus() == NO) {
@@ -1,13 +1,19 @@
 package com.genius.gitget.challenge.participant.repository;
 
 import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.participant.domain.JoinResult;
 import com.genius.gitget.challenge.participant.domain.JoinStatus;
 import com.genius.gitget.challenge.participant.domain.Participant;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,8 +28,39 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
                                       @Param("progress") Progress progress,
                                       @Param("joinStatus") JoinStatus joinStatus);
 
-    @Query("select p from Participant p where p.instance.id = :instanceId and p.joinStatus = :joinStatus")
+    @Query("select p from Participant p join fetch p.user u left join fetch u.files join fetch p.instance "
+            + "where p.instance.id = :instanceId and p.joinStatus = :joinStatus")
     Slice<Participant> findAllByInstanceId(@Param("instanceId") Long instanceId,
                                            @Param("joinStatus") JoinStatus joinStatus,
                                            Pageable pageable);
+
+    @Query("select p from Participant p join fetch p.user join fetch p.instance where p.instance.id = :instanceId and p.joinStatus = :joinStatus")
+    List<Participant> findAllWithUserByInstanceId(@Param("instanceId") Long instanceId,
+                                                  @Param("joinStatus") JoinStatus joinStatus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Participant p where p.id in :participantIds order by p.id")
+    List<Participant> findAllByIdForUpdate(@Param("participantIds") Collection<Long> participantIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Participant p set p.joinResult = :joinResult where p.instance.id in :instanceIds")
+    int updateJoinResultByInstanceIds(@Param("instanceIds") Collection<Long> instanceIds,
+                                      @Param("joinResult") JoinResult joinResult);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Participant p set p.joinResult = :joinResult where p.id in :participantIds")
+    int updateJoinResultByIds(@Param("participantIds") Collection<Long> participantIds,
+                              @Param("joinResult") JoinResult joinResult);
+
+    /*
+     * 시작일이 되었고 아직 종료일 전인 PREACTIVITY 인스턴스의 참여자 결과를 한 번에 갱신
+     * 인스턴스의 progress를 바꾸기 전에 실행해야 대상이 조회된다.
+     * */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Participant p set p.joinResult = :joinResult where p.instance.id in ("
+            + "select i.id from Instance i where i.progress = :progress "
+            + "and i.startedDate < :nextDayStart and i.completedDate >= :nextDayStart)")
+    int bulkUpdateJoinResultToActivity(@Param("progress") Progress progress,
+                                       @Param("joinResult") JoinResult joinResult,
+                                       @Param("nextDayStart") LocalDateTime nextDayStart);
 }
@@ -56,6 +56,10 @@ public class ParticipantService {
         return new SliceImpl<>(filtered, pageable, participants.hasNext());
     }
 
+    public List<Participant> findJoinedWithUser(Long instanceId) {
+        return participantRepository.findAllWithUserByInstanceId(instanceId, JoinStatus.YES);
+    }
+
     public Instance getInstanceById(Long participantId) {
         return participantRepository.findById(participantId)
                 .orElseThrow(() -> new BusinessException(PARTICIPANT_NOT_FOUND))
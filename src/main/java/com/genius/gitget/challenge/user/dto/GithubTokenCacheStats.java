@@ -0,0 +1,11 @@
+package com.genius.gitget.challenge.user.dto;
+
+public record GithubTokenCacheStats(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        double hitRate,
+        double averageDecryptMicros,
+        int cachedTokens
+) {
+}
@@ -0,0 +1,187 @@
+package com.genius.gitget.challenge.user.service;
+
+import com.genius.gitget.challenge.certification.util.TokenFingerprint;
+import com.genius.gitget.challenge.user.dto.GithubTokenCacheStats;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 사용자별 복호화된 GitHub 토큰 캐시
+ * (사용자 id, 암호문 fingerprint)가 같을 때만 캐시된 토큰을 사용하므로, 토큰이 다시 등록되면 자동으로 새로 복호화한다.
+ * 캐시 크기와 보관 시간을 제한하며, zero-on-evict 설정 시 제거되는 토큰의 문자 배열을 0으로 덮어쓴다.
+ * */
+@Slf4j
+@Component
+public class GithubTokenCache {
+    private final Map<Long, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong decryptNanos = new AtomicLong();
+
+    private final Duration timeToLive;
+    private final int maxSize;
+    private final boolean zeroOnEvict;
+    private final Clock clock;
+
+    @Autowired
+    public GithubTokenCache(@Value("${github.token-cache.ttl:10m}") Duration timeToLive,
+                            @Value("${github.token-cache.max-size:1000}") int maxSize,
+                            @Value("${github.token-cache.zero-on-evict:true}") boolean zeroOnEvict) {
+        this(timeToLive, maxSize, zeroOnEvict, Clock.systemUTC());
+    }
+
+    GithubTokenCache(Duration timeToLive, int maxSize, boolean zeroOnEvict, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.maxSize = maxSize;
+        this.zeroOnEvict = zeroOnEvict;
+        this.clock = clock;
+    }
+
+    public String getOrDecrypt(Long userId, String encryptedToken, UnaryOperator<String> decryptor) {
+        if (userId == null) {
+            return decryptor.apply(encryptedToken);
+        }
+        String fingerprint = TokenFingerprint.of(encryptedToken);
+        Instant now = clock.instant();
+
+        CachedToken cached = tokens.get(userId);
+        if (cached != null && cached.isUsable(fingerprint, now)) {
+            String value = cached.value();
+            if (value != null) {
+                hitCount.incrementAndGet();
+                return value;
+            }
+        }
+        if (cached != null && tokens.remove(userId, cached)) {
+            evict(cached);
+        }
+
+        missCount.incrementAndGet();
+        long startedAt = System.nanoTime();
+        String token = decryptor.apply(encryptedToken);
+        decryptNanos.addAndGet(System.nanoTime() - startedAt);
+
+        if (tokens.size() >= maxSize) {
+            evictOldest();
+        }
+        CachedToken previous = tokens.put(userId, new CachedToken(token.toCharArray(), fingerprint, now.plus(timeToLive)));
+        if (previous != null) {
+            evict(previous);
+        }
+        return token;
+    }
+
+    public void invalidate(Long userId) {
+        CachedToken removed = tokens.remove(userId);
+        if (removed != null) {
+            evict(removed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${github.token-cache.eviction-interval:5m}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        tokens.forEach((userId, cached) -> {
+            if (cached.isExpired(now) && tokens.remove(userId, cached)) {
+                evict(cached);
+            }
+        });
+        log.debug("GitHub token cache: {}", getStats());
+    }
+
+    public GithubTokenCacheStats getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        long requests = hits + misses;
+        return new GithubTokenCacheStats(
+                hits,
+                misses,
+                evictionCount.get(),
+                requests == 0 ? 0 : (double) hits / requests,
+                misses == 0 ? 0 : decryptNanos.get() / 1_000.0 / misses,
+                tokens.size()
+        );
+    }
+
+    /*
+     * 만료 시각이 이른 순서대로 삭제하여 최대 크기의 90% 이하로 유지
+     * 한 번에 여러 개를 비우므로, 가득 찬 상태에서도 저장할 때마다 전체를 정렬하지 않는다.
+     * */
+    private synchronized void evictOldest() {
+        int target = Math.min(maxSize * 9 / 10, maxSize - 1);
+        if (tokens.size() <= target) {
+            return;
+        }
+
+        List<Map.Entry<Long, CachedToken>> candidates = new ArrayList<>(tokens.entrySet());
+        candidates.sort(Comparator.comparing(entry -> entry.getValue().expiresAt()));
+        for (Map.Entry<Long, CachedToken> candidate : candidates) {
+            if (tokens.size() <= target) {
+                break;
+            }
+            if (tokens.remove(candidate.getKey(), candidate.getValue())) {
+                evict(candidate.getValue());
+            }
+        }
+    }
+
+    private void evict(CachedToken cached) {
+        evictionCount.incrementAndGet();
+        if (zeroOnEvict) {
+            cached.clear();
+        }
+    }
+
+    private static final class CachedToken {
+        private final char[] token;
+        private final String fingerprint;
+        private final Instant expiresAt;
+        private volatile boolean cleared;
+
+        private CachedToken(char[] token, String fingerprint, Instant expiresAt) {
+            this.token = token;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private Instant expiresAt() {
+            return expiresAt;
+        }
+
+        /*
+         * 복사하는 도중 다른 스레드가 값을 지웠다면 null을 반환하여 다시 복호화하도록 한다.
+         * */
+        private String value() {
+            String value = new String(token);
+            return cleared ? null : value;
+        }
+
+        private boolean isExpired(Instant now) {
+            return expiresAt.isBefore(now);
+        }
+
+        private boolean isUsable(String fingerprint, Instant now) {
+            return this.fingerprint.equals(fingerprint) && !isExpired(now);
+        }
+
+        private void clear() {
+            cleared = true;
+            Arrays.fill(token, '\0');
+        }
+    }
+}
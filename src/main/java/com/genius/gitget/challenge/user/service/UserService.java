@@ -24,6 +24,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final SignoutRepository signoutRepository;
     private final EncryptUtil encryptUtil;
+    private final GithubTokenCache githubTokenCache;
 
 
     public User findUserById(Long id) {
@@ -69,6 +70,10 @@ public class UserService {
         if (githubToken == null || githubToken.isEmpty() || githubToken.isBlank()) {
             throw new BusinessException(GITHUB_TOKEN_NOT_FOUND);
         }
-        return encryptUtil.decrypt(githubToken);
+        return githubTokenCache.getOrDecrypt(user.getId(), githubToken, encryptUtil::decrypt);
+    }
+
+    public void evictGithubToken(Long userId) {
+        githubTokenCache.invalidate(userId);
     }
 }
\ No newline at end of file
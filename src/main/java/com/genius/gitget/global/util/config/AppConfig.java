@@ -6,6 +6,7 @@ import com.genius.gitget.global.file.service.LocalFileService;
 import com.genius.gitget.global.file.service.S3FileService;
 import com.genius.gitget.global.util.formatter.LocalDateFormatter;
 import com.genius.gitget.global.util.formatter.LocalDateTimeFormatter;
+import java.time.Clock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,6 +47,11 @@ public class AppConfig {
                 env.getProperty("github.salt"));
     }
 
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
     @Bean
     public LocalDateFormatter localDateFormatter() {
         return new LocalDateFormatter();
@@ -0,0 +1,73 @@
+package com.genius.gitget.global.util.config;
+
+import com.genius.gitget.challenge.certification.util.CachingGithubConnector;
+import com.genius.gitget.challenge.certification.util.GithubCallScheduler;
+import com.genius.gitget.challenge.certification.util.GithubResponseStore;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.extras.HttpClientGitHubConnector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class GithubConfig {
+    private final Duration connectTimeout;
+    private final String cacheDirectory;
+    private final DataSize cacheMaxSize;
+    private final Environment env;
+
+    public GithubConfig(@Value("${github.client.connect-timeout:5s}") Duration connectTimeout,
+                        @Value("${github.cache.directory:${java.io.tmpdir}/gitget-github-cache}") String cacheDirectory,
+                        @Value("${github.cache.max-size:64MB}") DataSize cacheMaxSize,
+                        Environment env) {
+        this.connectTimeout = connectTimeout;
+        this.cacheDirectory = cacheDirectory;
+        this.cacheMaxSize = cacheMaxSize;
+        this.env = env;
+    }
+
+    /*
+     * 모든 GitHub 클라이언트가 공유하는 HTTP 커넥터
+     * HttpClient 내부의 connection pool을 재사용하기 위해 하나의 인스턴스만 생성
+     * */
+    @Bean
+    public HttpClient githubHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public GithubResponseStore githubResponseStore() {
+        return new GithubResponseStore(Path.of(cacheDirectory), cacheMaxSize.toBytes());
+    }
+
+    @Bean
+    public GithubCallScheduler githubCallScheduler() {
+        return new GithubCallScheduler(
+                new HttpClientGitHubConnector(githubHttpClient()),
+                env.getProperty("github.rate-limit.core-reserve", Integer.class, 50),
+                env.getProperty("github.rate-limit.search-reserve", Integer.class, 2),
+                env.getProperty("github.rate-limit.max-wait", Duration.class, Duration.ofSeconds(10)),
+                env.getProperty("github.rate-limit.base-backoff", Duration.class, Duration.ofSeconds(1)),
+                env.getProperty("github.rate-limit.max-retries", Integer.class, 3)
+        );
+    }
+
+    /*
+     * 조건부 요청 캐시 -> rate limit 스케줄러 -> HttpClient 순서로 요청이 전달된다.
+     * 304 응답도 잔여 요청 수 헤더를 포함하므로 캐시 적중 여부와 상관없이 스케줄러가 budget을 추적할 수 있다.
+     * */
+    @Bean
+    @Primary
+    public GitHubConnector gitHubConnector() {
+        return new CachingGithubConnector(githubCallScheduler(), githubResponseStore());
+    }
+}
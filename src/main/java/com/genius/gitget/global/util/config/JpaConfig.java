@@ -0,0 +1,31 @@
+package com.genius.gitget.global.util.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+    private final int batchSize;
+
+    public JpaConfig(@Value("${jpa.jdbc.batch-size:100}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /*
+     * 변경 감지로 발생하는 update/insert 문을 JDBC batch로 묶어서 전송
+     * 같은 테이블의 문장끼리 모이도록 정렬해야 batch가 중간에 끊기지 않는다.
+     * IDENTITY 전략을 사용하는 엔티티의 insert는 batch 대상에서 제외된다.
+     * */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
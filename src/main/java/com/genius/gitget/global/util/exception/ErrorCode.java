@@ -25,10 +25,13 @@ public enum ErrorCode {
 
     INVALID_INSTANCE_DATE(HttpStatus.BAD_REQUEST, "인스턴스 생성/종료 일자는 현재 일자 이후여야 합니다."),
     INSTANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 인스턴스를 찾을 수 없습니다."),
+    SCHEDULE_ALREADY_RUNNING(HttpStatus.CONFLICT, "다른 서버에서 챌린지 진행 상태를 갱신하고 있습니다."),
     PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 참여 정보를 찾을 수 없습니다."),
 
     ALREADY_PASSED_CERTIFICATION(HttpStatus.BAD_REQUEST, "패스한 인증에 대해서는 인증 갱신할 수 없습니다."),
     CERTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 인증 정보를 찾을 수 없습니다."),
+    CERTIFICATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 인증 작업을 찾을 수 없습니다."),
+    CERTIFICATION_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 인증 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     ALREADY_REGISTERED(HttpStatus.BAD_REQUEST, "이미 회원가입이 완료된 사용자입니다."),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다."),
@@ -63,6 +66,11 @@ public enum ErrorCode {
     GITHUB_ID_INCORRECT(HttpStatus.BAD_REQUEST, "소셜로그인에 사용한 Github 계정과 일치하지 않습니다."),
     GITHUB_REPOSITORY_INCORRECT(HttpStatus.BAD_REQUEST, "해당 레포지토리와 연결이 되지 않습니다."),
     GITHUB_PR_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 레포지토리에 PR이 존재하지 않습니다."),
+    GITHUB_PR_ALREADY_USED(HttpStatus.BAD_REQUEST, "이미 다른 인증에 사용된 PR입니다."),
+    GITHUB_WEBHOOK_SIGNATURE_INVALID(HttpStatus.UNAUTHORIZED, "Github webhook 서명이 유효하지 않습니다."),
+    GITHUB_WEBHOOK_PAYLOAD_INVALID(HttpStatus.BAD_REQUEST, "Github webhook payload를 해석할 수 없습니다."),
+    GITHUB_WEBHOOK_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기 중인 Github webhook이 너무 많습니다."),
+    GITHUB_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Github API 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     CAN_NOT_JOIN_INSTANCE(HttpStatus.BAD_REQUEST, "해당 인스턴스에 참여할 수 없습니다."),
     INVALID_JOIN_DATE(HttpStatus.BAD_REQUEST, "인스턴스 시작 당일에는 신규 참여할 수 없습니다."),
@@ -2,11 +2,10 @@ package com.genius.gitget.schedule.controller;
 
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.global.util.exception.BusinessException;
+import com.genius.gitget.global.util.exception.ErrorCode;
 import com.genius.gitget.global.util.response.dto.CommonResponse;
-import com.genius.gitget.schedule.service.ProgressService;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import com.genius.gitget.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,13 +16,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class ProgressController {
-    private final ProgressService scheduleService;
+    private final ScheduleService scheduleService;
 
     @GetMapping("/challenges/update")
     public ResponseEntity<CommonResponse> updateProgress() {
-        LocalDate currentDate = DateUtil.convertToKST(LocalDateTime.now());
-        scheduleService.updateToActivity(currentDate);
-        scheduleService.updateToDone(currentDate);
+        if (!scheduleService.updateProgress()) {
+            throw new BusinessException(ErrorCode.SCHEDULE_ALREADY_RUNNING);
+        }
 
         return ResponseEntity.ok().body(
                 new CommonResponse(SUCCESS.getStatus(), SUCCESS.getMessage())
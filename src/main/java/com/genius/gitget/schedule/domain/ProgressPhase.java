@@ -0,0 +1,6 @@
+package com.genius.gitget.schedule.domain;
+
+public enum ProgressPhase {
+    ACTIVITY,
+    DONE
+}
@@ -0,0 +1,46 @@
+package com.genius.gitget.schedule.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 여러 서버 중 하나만 스케줄 작업을 실행하도록 하는 DB 기반 lease
+ * owner가 비어 있거나 leasedUntil이 지난 lease만 획득할 수 있으며, 작업 도중에는 묶음마다 leasedUntil을 연장한다.
+ * 묶음 단위로 진행 위치(checkpoint)를 함께 기록하여, 작업이 중단되면 다음 실행에서 이어서 진행한다.
+ * */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "schedule_lease")
+public class ScheduleLease {
+    @Id
+    @Column(name = "lease_name", length = 64)
+    private String name;
+
+    private String owner;
+
+    private LocalDateTime leasedUntil;
+
+    private LocalDate checkpointDate;
+
+    @Enumerated(EnumType.STRING)
+    private ProgressPhase checkpointPhase;
+
+    private Long checkpointId;
+
+
+    public ScheduleLease(String name, String owner, LocalDateTime leasedUntil) {
+        this.name = name;
+        this.owner = owner;
+        this.leasedUntil = leasedUntil;
+    }
+}
@@ -0,0 +1,21 @@
+package com.genius.gitget.schedule.dto;
+
+import com.genius.gitget.schedule.domain.ProgressPhase;
+import java.time.LocalDate;
+
+/*
+ * 획득한 lease와, 획득 시점에 남아 있던 checkpoint
+ * owner는 실행마다 새로 발급되므로 같은 서버에서 동시에 실행한 작업끼리도 lease를 공유하지 않는다.
+ * */
+public record AcquiredLease(
+        String name,
+        String owner,
+        LocalDate checkpointDate,
+        ProgressPhase checkpointPhase,
+        Long checkpointId
+) {
+
+    public boolean hasCheckpoint(LocalDate currentDate) {
+        return checkpointPhase != null && currentDate.equals(checkpointDate);
+    }
+}
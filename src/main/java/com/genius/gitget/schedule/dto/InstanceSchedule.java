@@ -0,0 +1,20 @@
+package com.genius.gitget.schedule.dto;
+
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import java.time.LocalDateTime;
+
+/*
+ * 다음 진행 상태 전환 시점을 계산하는 데 필요한 인스턴스 정보
+ * */
+public record InstanceSchedule(
+        Long instanceId,
+        Progress progress,
+        LocalDateTime startedDate,
+        LocalDateTime completedDate
+) {
+    public static InstanceSchedule of(Instance instance) {
+        return new InstanceSchedule(instance.getId(), instance.getProgress(),
+                instance.getStartedDate(), instance.getCompletedDate());
+    }
+}
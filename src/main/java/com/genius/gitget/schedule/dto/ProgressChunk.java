@@ -0,0 +1,12 @@
+package com.genius.gitget.schedule.dto;
+
+/*
+ * 인스턴스 진행 상태 갱신 묶음의 처리 결과
+ * lastId는 다음 묶음의 시작 위치(checkpoint)로 사용한다.
+ * */
+public record ProgressChunk(
+        Long lastId,
+        int transitioned,
+        boolean hasNext
+) {
+}
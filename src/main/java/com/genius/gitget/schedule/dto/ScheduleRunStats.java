@@ -0,0 +1,11 @@
+package com.genius.gitget.schedule.dto;
+
+public record ScheduleRunStats(
+        long runCount,
+        long skippedCount,
+        long failedCount,
+        long lastDurationMillis,
+        long activatedCount,
+        long completedCount
+) {
+}
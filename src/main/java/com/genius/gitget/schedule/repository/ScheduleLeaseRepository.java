@@ -0,0 +1,43 @@
+package com.genius.gitget.schedule.repository;
+
+import com.genius.gitget.schedule.domain.ProgressPhase;
+import com.genius.gitget.schedule.domain.ScheduleLease;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ScheduleLeaseRepository extends JpaRepository<ScheduleLease, String> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ScheduleLease l set l.owner = :owner, l.leasedUntil = :leasedUntil "
+            + "where l.name = :name and (l.owner is null or l.leasedUntil < :now)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("leasedUntil") LocalDateTime leasedUntil,
+                @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ScheduleLease l set l.leasedUntil = :leasedUntil, l.checkpointDate = :checkpointDate, "
+            + "l.checkpointPhase = :checkpointPhase, l.checkpointId = :checkpointId "
+            + "where l.name = :name and l.owner = :owner")
+    int checkpoint(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("leasedUntil") LocalDateTime leasedUntil,
+                   @Param("checkpointDate") LocalDate checkpointDate,
+                   @Param("checkpointPhase") ProgressPhase checkpointPhase,
+                   @Param("checkpointId") Long checkpointId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ScheduleLease l set l.owner = null, l.leasedUntil = null "
+            + "where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ScheduleLease l set l.owner = null, l.leasedUntil = null, "
+            + "l.checkpointDate = null, l.checkpointPhase = null, l.checkpointId = null "
+            + "where l.name = :name and l.owner = :owner")
+    int complete(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,106 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 인증 달력과 집계 컬럼이 인증 기록과 어긋났는지 주기적으로 확인하여 복구
+ * 인증 기록을 직접 수정한 경우(관리자 작업, JDBC batch 실패 등)를 대비한 작업으로,
+ * 참여자 id 기준 keyset 묶음 단위로 트랜잭션을 나누어 한 번에 많은 행을 잠그지 않도록 한다.
+ * 묶음의 달력을 먼저 잠근 뒤 인증 기록을 읽으므로, 그 사이에 진행된 인증 갱신을 이전 값으로 덮어쓰지 않는다.
+ * */
+@Slf4j
+@Service
+public class CalendarReconcileService {
+    public static final String RECONCILE_LEASE = "calendar-reconcile";
+
+    private final CertificationCalendarRepository certificationCalendarRepository;
+    private final CertificationRepository certificationRepository;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public CalendarReconcileService(CertificationCalendarRepository certificationCalendarRepository,
+                                    CertificationRepository certificationRepository,
+                                    ScheduleLeaseService scheduleLeaseService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${schedule.reconcile.chunk-size:500}") int chunkSize,
+                                    @Value("${schedule.reconcile.lease-duration:30m}") Duration leaseDuration) {
+        this.certificationCalendarRepository = certificationCalendarRepository;
+        this.certificationRepository = certificationRepository;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Scheduled(cron = "${schedule.reconcile.cron:0 30 4 * * *}")
+    public void runDaily() {
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(RECONCILE_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 인증 달력 복구를 진행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int run() {
+        int repaired = 0;
+        long lastParticipantId = 0L;
+        while (true) {
+            List<Long> participantIds = certificationCalendarRepository.findParticipantIdsAfter(
+                    lastParticipantId, PageRequest.ofSize(chunkSize));
+            if (participantIds.isEmpty()) {
+                break;
+            }
+            repaired += transactionTemplate.execute(status -> reconcile(participantIds));
+
+            if (participantIds.size() < chunkSize) {
+                break;
+            }
+            lastParticipantId = participantIds.get(participantIds.size() - 1);
+        }
+
+        if (repaired > 0) {
+            log.warn("인증 달력 {}건이 인증 기록과 달라 복구했습니다.", repaired);
+        }
+        return repaired;
+    }
+
+    private int reconcile(List<Long> participantIds) {
+        List<CertificationCalendar> calendars = certificationCalendarRepository
+                .findAllByParticipantIdsForUpdate(participantIds);
+
+        Map<Long, List<Certification>> certifications = certificationRepository
+                .findAllByParticipantIds(participantIds).stream()
+                .collect(Collectors.groupingBy(certification -> certification.getParticipant().getId()));
+
+        int repaired = 0;
+        for (CertificationCalendar calendar : calendars) {
+            if (calendar.reconcile(certifications.getOrDefault(calendar.getParticipantId(), List.of()))) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,177 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationLinkJdbcRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * (participant_id, certificated_at) unique key를 추가하기 전에 같은 참여자/일자의 중복 인증을 하나로 합치는 일회성 작업
+ * 상태는 PASSED > CERTIFICATED > NOT_YET 순으로 우선하며, 같은 상태라면 먼저 생성된 인증을 남긴다.
+ * 삭제되는 인증의 PR 링크는 남는 인증으로 합치고, 합친 결과로 인증 달력을 다시 맞춘다.
+ * 중복이 있는 참여자 id 기준 keyset 방식으로 묶음마다 트랜잭션을 나누므로, 중간에 중단되더라도 다시 실행할 수 있다.
+ * 서버 시작을 늦추지 않도록 시작 이후 스케줄러에서 실행하며, lease로 한 서버에서만 실행한다.
+ * */
+@Slf4j
+@Service
+public class CertificationDedupeService {
+    private static final String SELECT_SQL = """
+            SELECT d.participant_id
+            FROM (SELECT participant_id
+                  FROM certification
+                  WHERE participant_id > ?
+                  GROUP BY participant_id, certificated_at
+                  HAVING COUNT(*) > 1) d
+            GROUP BY d.participant_id
+            ORDER BY d.participant_id
+            LIMIT ?
+            """;
+    private static final Comparator<Certification> PRIORITY = Comparator
+            .comparing(Certification::getCertificationStatus).reversed()
+            .thenComparing(Certification::getId);
+
+    public static final String CERTIFICATION_DEDUPE_LEASE = "certification-dedupe";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CertificationRepository certificationRepository;
+    private final CertificationCalendarRepository certificationCalendarRepository;
+    private final CertificationLinkJdbcRepository certificationLinkJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public CertificationDedupeService(JdbcTemplate jdbcTemplate,
+                                      CertificationRepository certificationRepository,
+                                      CertificationCalendarRepository certificationCalendarRepository,
+                                      CertificationLinkJdbcRepository certificationLinkJdbcRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      ScheduleLeaseService scheduleLeaseService,
+                                      @Value("${certification.dedupe.enabled:false}") boolean enabled,
+                                      @Value("${certification.dedupe.chunk-size:500}") int chunkSize,
+                                      @Value("${certification.dedupe.lease-duration:30m}") Duration leaseDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.certificationRepository = certificationRepository;
+        this.certificationCalendarRepository = certificationCalendarRepository;
+        this.certificationLinkJdbcRepository = certificationLinkJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /*
+     * 정리할 중복이 남아있지 않다면 조회 한 번으로 끝나므로, unique key를 추가하기 전까지 켜두어도 부담이 없다.
+     * */
+    @Scheduled(initialDelayString = "${certification.dedupe.initial-delay:1m}",
+            fixedDelayString = "${certification.dedupe.interval:1h}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(CERTIFICATION_DEDUPE_LEASE,
+                leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 중복 인증 정리를 진행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int run() {
+        int removed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> participantIds = jdbcTemplate.queryForList(SELECT_SQL, Long.class, lastId, chunkSize);
+            if (participantIds.isEmpty()) {
+                break;
+            }
+
+            removed += transactionTemplate.execute(status -> dedupe(participantIds));
+            if (participantIds.size() < chunkSize) {
+                break;
+            }
+            lastId = participantIds.get(participantIds.size() - 1);
+        }
+
+        log.info("중복된 인증 {}건을 정리했습니다.", removed);
+        return removed;
+    }
+
+    private int dedupe(List<Long> participantIds) {
+        List<CertificationCalendar> calendars = certificationCalendarRepository
+                .findAllByParticipantIdsForUpdate(participantIds);
+        Map<Long, Map<LocalDate, List<Certification>>> certifications = certificationRepository
+                .findAllByParticipantIds(participantIds).stream()
+                .collect(Collectors.groupingBy(certification -> certification.getParticipant().getId(),
+                        Collectors.groupingBy(Certification::getCertificatedAt)));
+
+        List<Certification> duplicates = new ArrayList<>();
+        Map<Long, List<String>> links = new LinkedHashMap<>();
+        Map<Long, List<Certification>> survivors = new LinkedHashMap<>();
+        certifications.forEach((participantId, byDate) -> byDate.values().forEach(sameDate -> {
+            sameDate.sort(PRIORITY);
+            Certification survivor = sameDate.get(0);
+            survivors.computeIfAbsent(participantId, id -> new ArrayList<>()).add(survivor);
+            if (sameDate.size() == 1) {
+                return;
+            }
+
+            Set<String> merged = new LinkedHashSet<>();
+            sameDate.forEach(certification ->
+                    merged.addAll(PullRequestUrl.splitLinks(certification.getCertificationLinks())));
+            if (!merged.isEmpty()) {
+                survivor.update(survivor.getCertificatedAt(), survivor.getCertificationStatus(), joinLinks(merged));
+            }
+            links.put(survivor.getId(), new ArrayList<>(merged));
+
+            for (Certification duplicate : sameDate.subList(1, sameDate.size())) {
+                duplicates.add(duplicate);
+                links.put(duplicate.getId(), List.of());
+            }
+        }));
+
+        certificationLinkJdbcRepository.replaceAllSkippingConflicts(links);
+        certificationRepository.deleteAllInBatch(duplicates);
+        for (CertificationCalendar calendar : calendars) {
+            calendar.reconcile(survivors.getOrDefault(calendar.getParticipantId(), List.of()));
+        }
+        return duplicates.size();
+    }
+
+    private String joinLinks(Set<String> links) {
+        StringBuilder linkBuilder = new StringBuilder();
+        for (String link : links) {
+            linkBuilder.append(link);
+            linkBuilder.append(",");
+        }
+        return linkBuilder.toString();
+    }
+}
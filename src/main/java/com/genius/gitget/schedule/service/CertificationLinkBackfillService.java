@@ -0,0 +1,107 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.repository.CertificationLinkJdbcRepository;
+import com.genius.gitget.challenge.certification.util.PullRequestUrl;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 쉼표로 이어 붙여 저장된 기존 인증 링크를 certification_link 테이블로 옮기는 일회성 작업
+ * 인증 id 기준 keyset 방식으로 일정 개수씩 읽어 묶음마다 트랜잭션을 나누므로, 전체 인증을 한 번에 메모리에 올리지 않는다.
+ * 이미 링크가 저장된 인증은 건너뛰므로 중간에 중단되더라도 다시 실행할 수 있다.
+ * 기존 데이터에는 같은 PR이 여러 인증에 사용된 경우가 있으므로, 먼저 옮겨진 링크만 남기고 충돌하는 링크는 건너뛴다.
+ * 여러 서버에서 동시에 옮기면 링크 삭제/저장이 섞일 수 있으므로, 시작 이후 스케줄러에서 lease로 한 서버에서만 실행한다.
+ * */
+@Slf4j
+@Service
+public class CertificationLinkBackfillService {
+    private static final String SELECT_SQL = """
+            SELECT c.certification_id, c.certification_links
+            FROM certification c
+            WHERE c.certification_id > ?
+              AND c.certification_links IS NOT NULL AND c.certification_links <> ''
+              AND NOT EXISTS (SELECT 1 FROM certification_link l WHERE l.certification_id = c.certification_id)
+            ORDER BY c.certification_id
+            LIMIT ?
+            """;
+
+    public static final String CERTIFICATION_LINK_BACKFILL_LEASE = "certification-link-backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CertificationLinkJdbcRepository certificationLinkJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public CertificationLinkBackfillService(JdbcTemplate jdbcTemplate,
+                                            CertificationLinkJdbcRepository certificationLinkJdbcRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            ScheduleLeaseService scheduleLeaseService,
+                                            @Value("${certification.link.backfill.enabled:false}") boolean enabled,
+                                            @Value("${certification.link.backfill.chunk-size:1000}") int chunkSize,
+                                            @Value("${certification.link.backfill.lease-duration:30m}") Duration leaseDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.certificationLinkJdbcRepository = certificationLinkJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /*
+     * 이미 옮겨진 인증은 조회 대상에서 제외되므로, 모두 옮긴 뒤에는 빈 조회 한 번으로 끝난다.
+     * */
+    @Scheduled(initialDelayString = "${certification.link.backfill.initial-delay:1m}",
+            fixedDelayString = "${certification.link.backfill.interval:1h}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(CERTIFICATION_LINK_BACKFILL_LEASE,
+                leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 인증 링크 이전을 진행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int run() {
+        int migrated = 0;
+        long lastId = 0L;
+        while (true) {
+            Map<Long, List<String>> links = new LinkedHashMap<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                links.put(rs.getLong(1), PullRequestUrl.splitLinks(rs.getString(2)));
+            }, lastId, chunkSize);
+            if (links.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> certificationLinkJdbcRepository.replaceAllSkippingConflicts(links));
+            migrated += links.size();
+            lastId = links.keySet().stream().reduce((first, second) -> second).orElse(lastId);
+        }
+
+        log.info("인증 {}건의 PR 링크를 certification_link로 옮겼습니다.", migrated);
+        return migrated;
+    }
+}
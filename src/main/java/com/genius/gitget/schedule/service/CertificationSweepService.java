@@ -0,0 +1,147 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import com.genius.gitget.challenge.certification.service.CertificationService;
+import com.genius.gitget.challenge.certification.service.GithubService;
+import com.genius.gitget.challenge.certification.service.PullRequestHarvester;
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.certification.util.PrTemplateMatcher;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.service.ParticipantService;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GitHub;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * ACTIVITY 상태인 인스턴스의 참여자들에 대해 오늘의 PR을 미리 확인하여 인증 정보를 갱신
+ * 사용자가 인증 요청을 보내지 않아도 인증 완료 상태를 조회할 수 있도록 한다.
+ * */
+@Slf4j
+@Service
+public class CertificationSweepService {
+    public static final String SWEEP_LEASE = "certification-sweep";
+
+    private final InstanceRepository instanceRepository;
+    private final ParticipantService participantService;
+    private final GithubService githubService;
+    private final PullRequestHarvester pullRequestHarvester;
+    private final CertificationService certificationService;
+    private final KstClock kstClock;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final Duration leaseDuration;
+    private final ExecutorService executor;
+
+    public CertificationSweepService(InstanceRepository instanceRepository,
+                                     ParticipantService participantService,
+                                     GithubService githubService,
+                                     PullRequestHarvester pullRequestHarvester,
+                                     CertificationService certificationService,
+                                     KstClock kstClock,
+                                     ScheduleLeaseService scheduleLeaseService,
+                                     @Value("${schedule.certification.parallelism:8}") int parallelism,
+                                     @Value("${schedule.certification.lease-duration:25m}") Duration leaseDuration) {
+        this.instanceRepository = instanceRepository;
+        this.participantService = participantService;
+        this.githubService = githubService;
+        this.pullRequestHarvester = pullRequestHarvester;
+        this.certificationService = certificationService;
+        this.kstClock = kstClock;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.leaseDuration = leaseDuration;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @Scheduled(cron = "${schedule.certification.cron:0 0/30 * * * *}")
+    public void run() {
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(SWEEP_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 PR 인증 일괄 확인을 진행 중이므로 건너뜁니다.");
+            return;
+        }
+
+        LocalDate kstDate = kstClock.today();
+        log.info(kstDate + ": ACTIVITY 인스턴스의 PR 인증 일괄 확인 진행");
+        try {
+            sweep(instanceRepository.findAllByProgress(Progress.ACTIVITY), kstDate);
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int sweep(Instance instance, LocalDate targetDate) {
+        return sweep(List.of(instance), targetDate);
+    }
+
+    /*
+     * 같은 사용자가 같은 레포지토리로 여러 챌린지에 참여한 경우, PR 조회와 본문 검사를 한 번만 수행하도록
+     * (사용자, 레포지토리) 단위로 참여 정보를 묶어 모든 템플릿을 함께 확인한다.
+     * 당일 이미 인증(CERTIFICATED, PASSED)된 참여자는 GitHub 요청 한도를 쓰지 않도록 제외한다.
+     * */
+    public int sweep(List<Instance> instances, LocalDate targetDate) {
+        Map<String, Map<Participant, String>> groups = new LinkedHashMap<>();
+        int participantCount = 0;
+        for (Instance instance : instances) {
+            String prTemplate = instance.getPrTemplate(targetDate);
+            List<Participant> participants = participantService.findJoinedWithUser(instance.getId());
+            Map<Long, CertificateStatus> statuses = certificationService.findStatusByDate(
+                    targetDate, participants.stream().map(Participant::getId).toList());
+
+            for (Participant participant : participants) {
+                if (statuses.get(participant.getId()) != CertificateStatus.NOT_YET) {
+                    continue;
+                }
+                String groupKey = participant.getUser().getId() + "/" + participant.getRepositoryName();
+                groups.computeIfAbsent(groupKey, key -> new LinkedHashMap<>()).put(participant, prTemplate);
+                participantCount++;
+            }
+        }
+
+        List<CompletableFuture<Map<Participant, List<String>>>> futures = new ArrayList<>();
+        for (Map<Participant, String> templates : groups.values()) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> findValidPullRequests(templates, targetDate), executor));
+        }
+
+        Map<Participant, List<String>> pullRequests = new LinkedHashMap<>();
+        futures.forEach(future -> pullRequests.putAll(future.join()));
+
+        int updated = certificationService.certifyAll(targetDate, pullRequests);
+        log.info("인스턴스 {}개, 참여자 {}명 중 {}건의 인증 정보 갱신", instances.size(), participantCount, updated);
+        return updated;
+    }
+
+    private Map<Participant, List<String>> findValidPullRequests(Map<Participant, String> templates,
+                                                                 LocalDate targetDate) {
+        Participant participant = templates.keySet().iterator().next();
+        try {
+            GitHub gitHub = githubService.getGithubConnection(participant.getUser());
+            return pullRequestHarvester.findValidPullRequests(
+                    gitHub, participant.getRepositoryName(), targetDate, PrTemplateMatcher.of(templates));
+        } catch (RuntimeException e) {
+            log.warn("participant {}: PR 조회 실패 - {}", participant.getId(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,136 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.util.EncryptUtil;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * 이전 형식으로 저장된 GitHub 토큰 암호문을 "v2:" Base64 형식으로 옮기는 작업
+ * 사용자 id 기준 keyset 방식으로 일정 개수씩 읽어 batch update로 반영한다.
+ * 조회한 암호문이 그대로 남아있는 경우에만 갱신하므로, 조회 이후 토큰이 다시 등록된 사용자는 (이전 형식으로 등록되었더라도) 덮어쓰지 않는다.
+ * 서버 시작을 늦추지 않도록 시작 이후 스케줄러에서 실행하며, lease로 한 서버에서만 실행한다.
+ * */
+@Slf4j
+@Service
+public class GithubTokenMigrationService {
+    private static final String SELECT_SQL = """
+            SELECT user_id, github_token
+            FROM users
+            WHERE user_id > ?
+              AND github_token IS NOT NULL AND github_token NOT LIKE 'v2:%'
+            ORDER BY user_id
+            LIMIT ?
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE users SET github_token = ?
+            WHERE user_id = ? AND github_token = ?
+            """;
+
+    public static final String TOKEN_MIGRATION_LEASE = "github-token-migration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public GithubTokenMigrationService(JdbcTemplate jdbcTemplate,
+                                       ScheduleLeaseService scheduleLeaseService,
+                                       @Value("${github.token-migration.enabled:false}") boolean enabled,
+                                       @Value("${github.token-migration.chunk-size:500}") int chunkSize,
+                                       @Value("${github.token-migration.lease-duration:30m}") Duration leaseDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /*
+     * 옮길 토큰이 남아있지 않다면 조회 한 번으로 끝나므로, 활성화된 동안 주기적으로 실행해도 부담이 없다.
+     * */
+    @Scheduled(initialDelayString = "${github.token-migration.initial-delay:1m}",
+            fixedDelayString = "${github.token-migration.interval:1h}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(TOKEN_MIGRATION_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 GitHub 토큰 형식 변환을 진행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int run() {
+        int migrated = 0;
+        long lastId = 0L;
+        while (true) {
+            List<LegacyToken> chunk = new ArrayList<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                chunk.add(new LegacyToken(rs.getLong(1), rs.getString(2)));
+            }, lastId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<MigratedToken> reencoded = new ArrayList<>();
+            for (LegacyToken token : chunk) {
+                if (token.githubToken().isBlank()) {
+                    continue;
+                }
+                try {
+                    reencoded.add(new MigratedToken(
+                            token.userId(), token.githubToken(), EncryptUtil.reencode(token.githubToken())));
+                } catch (IllegalArgumentException e) {
+                    log.warn("사용자 {}의 GitHub 토큰 암호문 형식이 올바르지 않아 건너뜁니다.", token.userId());
+                }
+            }
+            if (!reencoded.isEmpty()) {
+                int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, reencoded, reencoded.size(), (ps, token) -> {
+                    ps.setString(1, token.reencodedToken());
+                    ps.setLong(2, token.userId());
+                    ps.setString(3, token.legacyToken());
+                });
+                migrated += countUpdated(updated);
+            }
+
+            lastId = chunk.get(chunk.size() - 1).userId();
+        }
+
+        log.info("GitHub 토큰 {}건을 새 암호문 형식으로 옮겼습니다.", migrated);
+        return migrated;
+    }
+
+    /*
+     * 조회 이후 토큰이 다시 등록되어 갱신 조건에서 제외된 사용자는 0건으로 집계된다.
+     * */
+    private int countUpdated(int[][] updated) {
+        int count = 0;
+        for (int[] batch : updated) {
+            for (int rows : batch) {
+                count += Math.max(rows, 0);
+            }
+        }
+        return count;
+    }
+
+    private record LegacyToken(Long userId, String githubToken) {
+    }
+
+    private record MigratedToken(Long userId, String legacyToken, String reencodedToken) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import com.genius.gitget.schedule.dto.InstanceSchedule;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * InstanceTransitionWheel에서 전환 시점이 된 인스턴스만 꺼내서 진행 상태를 바꾸는 작업
+ * 처리 비용은 전체 인스턴스 수가 아니라 그날 전환되는 인스턴스 수에 비례한다.
+ * wheel은 서버마다 따로 가지므로 시작 시점과 매일 자정 전에 DB 기준으로 다시 만들고,
+ * 실제 전환은 lease를 획득한 서버에서 DB 조건을 다시 확인한 뒤에만 실행한다.
+ * 전체 인스턴스를 확인하는 ScheduleService의 작업은 누락 보정용으로 그대로 유지한다.
+ * */
+@Slf4j
+@Service
+public class InstanceTransitionService {
+    public static final String TRANSITION_LEASE = "instance-transition";
+    private static final List<Progress> OPEN_PROGRESSES = List.of(Progress.PREACTIVITY, Progress.ACTIVITY);
+
+    private final InstanceTransitionWheel instanceTransitionWheel;
+    private final ProgressService progressService;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final InstanceRepository instanceRepository;
+    private final KstClock kstClock;
+    private final boolean enabled;
+    private final int rebuildChunkSize;
+    private final Duration leaseDuration;
+
+    private final AtomicLong activatedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+
+    public InstanceTransitionService(InstanceTransitionWheel instanceTransitionWheel,
+                                     ProgressService progressService,
+                                     ScheduleLeaseService scheduleLeaseService,
+                                     InstanceRepository instanceRepository,
+                                     KstClock kstClock,
+                                     @Value("${schedule.transition.enabled:true}") boolean enabled,
+                                     @Value("${schedule.transition.rebuild-chunk-size:1000}") int rebuildChunkSize,
+                                     @Value("${schedule.transition.lease-duration:5m}") Duration leaseDuration) {
+        this.instanceTransitionWheel = instanceTransitionWheel;
+        this.progressService = progressService;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.instanceRepository = instanceRepository;
+        this.kstClock = kstClock;
+        this.enabled = enabled;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${schedule.transition.rebuild-cron:0 50 23 * * *}")
+    public void rebuildBeforeMidnight() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /*
+     * 진행 중인 인스턴스를 id 기준 keyset 방식으로 읽어 wheel을 다시 만든다.
+     * */
+    public int rebuild() {
+        List<InstanceSchedule> instances = new ArrayList<>();
+        Long lastId = 0L;
+        Slice<InstanceSchedule> chunk;
+        do {
+            chunk = instanceRepository.findSchedules(OPEN_PROGRESSES, lastId, PageRequest.of(0, rebuildChunkSize));
+            instances.addAll(chunk.getContent());
+            if (chunk.hasContent()) {
+                lastId = chunk.getContent().get(chunk.getNumberOfElements() - 1).instanceId();
+            }
+        } while (chunk.hasNext());
+
+        instanceTransitionWheel.rebuild(instances);
+        log.info("instance 진행 상태 전환 예정 {}건을 다시 등록했습니다.", instanceTransitionWheel.size());
+        return instances.size();
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.transition.poll-interval:1m}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate kstDate = kstClock.today();
+        if (!instanceTransitionWheel.hasDue(kstDate)) {
+            return;
+        }
+
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(TRANSITION_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            return;
+        }
+        try {
+            transitionDue(kstDate);
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public long getActivatedCount() {
+        return activatedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /*
+     * 꺼낸 인스턴스는 처리 결과와 상관없이 DB의 현재 상태로 다음 전환을 다시 등록한다.
+     * 처리 중 실패하더라도 wheel에서 사라지지 않도록 finally에서 등록한다.
+     * */
+    private void transitionDue(LocalDate kstDate) {
+        Map<Progress, List<Long>> due = instanceTransitionWheel.pollDue(kstDate);
+        List<Long> polled = due.values().stream().flatMap(List::stream).toList();
+        try {
+            activatedCount.addAndGet(
+                    progressService.activate(due.getOrDefault(Progress.ACTIVITY, List.of()), kstDate).size());
+            completedCount.addAndGet(
+                    progressService.complete(due.getOrDefault(Progress.DONE, List.of()), kstDate).size());
+        } finally {
+            instanceRepository.findSchedulesByIds(polled).forEach(instanceTransitionWheel::schedule);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.schedule.dto.InstanceSchedule;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 인스턴스별 다음 진행 상태 전환(PREACTIVITY -> ACTIVITY, -> DONE)을 KST 일자 단위 bucket에 보관
+ * 상태 전환은 하루 단위로만 일어나므로 bucket은 일자별로 나누고, 인스턴스마다 다음 전환 하나만 보관한다.
+ * 스케줄러는 전체 인스턴스를 조회하지 않고 오늘까지의 bucket만 꺼내서 처리한다.
+ * 인스턴스 생성/수정/삭제는 트랜잭션이 커밋된 이후에만 반영한다.
+ * */
+@Component
+public class InstanceTransitionWheel {
+    private final KstClock kstClock;
+    private final NavigableMap<LocalDate, Set<Long>> buckets = new TreeMap<>();
+    private final Map<Long, Transition> transitions = new HashMap<>();
+
+    public InstanceTransitionWheel(KstClock kstClock) {
+        this.kstClock = kstClock;
+    }
+
+    /*
+     * 인스턴스의 다음 전환 시점을 등록하거나 갱신
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영한다.
+     * */
+    public void schedule(InstanceSchedule instance) {
+        afterCommit(() -> {
+            synchronized (this) {
+                put(instance, kstClock.today());
+            }
+        });
+    }
+
+    public void remove(Long instanceId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                unlink(instanceId);
+            }
+        });
+    }
+
+    public synchronized void rebuild(Collection<InstanceSchedule> instances) {
+        buckets.clear();
+        transitions.clear();
+        LocalDate today = kstClock.today();
+        for (InstanceSchedule instance : instances) {
+            put(instance, today);
+        }
+    }
+
+    public synchronized boolean hasDue(LocalDate currentDate) {
+        return !buckets.isEmpty() && !buckets.firstKey().isAfter(currentDate);
+    }
+
+    /*
+     * currentDate까지 도래한 전환을 꺼내서 목표 상태별로 반환
+     * 꺼낸 인스턴스는 처리 후 다시 schedule 해야 다음 전환이 등록된다.
+     * */
+    public synchronized Map<Progress, List<Long>> pollDue(LocalDate currentDate) {
+        Map<Progress, List<Long>> due = new EnumMap<>(Progress.class);
+        NavigableMap<LocalDate, Set<Long>> dueBuckets = buckets.headMap(currentDate, true);
+        for (Set<Long> instanceIds : dueBuckets.values()) {
+            for (Long instanceId : instanceIds) {
+                Transition transition = transitions.remove(instanceId);
+                due.computeIfAbsent(transition.target(), key -> new ArrayList<>()).add(instanceId);
+            }
+        }
+        dueBuckets.clear();
+        return due;
+    }
+
+    public synchronized int size() {
+        return transitions.size();
+    }
+
+    private void put(InstanceSchedule instance, LocalDate today) {
+        unlink(instance.instanceId());
+
+        Transition transition = nextTransition(instance, today);
+        if (transition == null) {
+            return;
+        }
+        transitions.put(instance.instanceId(), transition);
+        buckets.computeIfAbsent(transition.dueDate(), key -> new LinkedHashSet<>()).add(instance.instanceId());
+    }
+
+    private void unlink(Long instanceId) {
+        Transition previous = transitions.remove(instanceId);
+        if (previous == null) {
+            return;
+        }
+        Set<Long> bucket = buckets.get(previous.dueDate());
+        if (bucket != null && bucket.remove(instanceId) && bucket.isEmpty()) {
+            buckets.remove(previous.dueDate());
+        }
+    }
+
+    /*
+     * ProgressService의 전환 조건과 같은 기준으로 다음 전환을 계산
+     * ACTIVITY: 시작일 ~ 종료일 전날, DONE: 시작일과 종료일이 모두 지난 다음 날
+     * */
+    private Transition nextTransition(InstanceSchedule instance, LocalDate today) {
+        LocalDate startedDate = instance.startedDate().toLocalDate();
+        LocalDate completedDate = instance.completedDate().toLocalDate();
+        LocalDate doneDate = (startedDate.isAfter(completedDate) ? startedDate : completedDate).plusDays(1);
+
+        return switch (instance.progress()) {
+            case PREACTIVITY -> startedDate.isBefore(completedDate) && today.isBefore(completedDate)
+                    ? new Transition(startedDate, Progress.ACTIVITY)
+                    : new Transition(doneDate, Progress.DONE);
+            case ACTIVITY -> new Transition(doneDate, Progress.DONE);
+            case DONE -> null;
+        };
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Transition(LocalDate dueDate, Progress target) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.challenge.certification.service.CertificationService;
+import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/*
+ * 진행 중인 챌린지 참여자들의 당일 NOT_YET 인증을 자정 이후 한 번에 생성하는 작업
+ * 내 챌린지 조회에서 인증을 만들지 않도록 하기 위한 것으로, 조회 시에는 인증이 없으면 NOT_YET으로 간주한다.
+ * 참여자 id 기준 keyset 방식으로 아직 인증이 없는 참여자만 읽어 묶음마다 multi-row INSERT로 생성한다.
+ * (participant_id, certificated_at) unique key로 중복을 막으므로 여러 번 실행되어도 같은 결과가 된다.
+ * */
+@Slf4j
+@Service
+public class MissedCertificationService {
+    public static final String MISSED_CERTIFICATION_LEASE = "missed-certification";
+    private static final String SELECT_SQL = """
+            SELECT p.participant_id, i.started_at
+            FROM participant p
+                JOIN instance i ON i.instance_id = p.instance_id
+            WHERE p.participant_id > ?
+              AND p.join_status = 'YES'
+              AND i.progress = 'ACTIVITY'
+              AND i.started_at < ? AND i.completed_at >= ?
+              AND NOT EXISTS (SELECT 1 FROM certification c
+                              WHERE c.participant_id = p.participant_id AND c.certificated_at = ?)
+            ORDER BY p.participant_id
+            LIMIT ?
+            """;
+
+    private final CertificationService certificationService;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final KstClock kstClock;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public MissedCertificationService(CertificationService certificationService,
+                                      ScheduleLeaseService scheduleLeaseService,
+                                      JdbcTemplate jdbcTemplate,
+                                      KstClock kstClock,
+                                      @Value("${schedule.missed-certification.chunk-size:500}") int chunkSize,
+                                      @Value("${schedule.missed-certification.lease-duration:5m}") Duration leaseDuration) {
+        this.certificationService = certificationService;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.kstClock = kstClock;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    /*
+     * 인스턴스 진행 상태 갱신 이후에 실행되도록 자정 직후로 설정
+     * */
+    @Scheduled(cron = "${schedule.missed-certification.cron:0 5 0 * * *}")
+    public void runDaily() {
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(MISSED_CERTIFICATION_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.info("다른 서버에서 당일 NOT_YET 인증 생성을 진행 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            int created = run(kstClock.today());
+            log.info("당일 NOT_YET 인증 {}건을 생성했습니다.", created);
+        } finally {
+            scheduleLeaseService.complete(acquired.get());
+        }
+    }
+
+    public int run(LocalDate targetDate) {
+        Timestamp nextDayStart = Timestamp.valueOf(targetDate.plusDays(1).atStartOfDay());
+        Timestamp dayStart = Timestamp.valueOf(targetDate.atStartOfDay());
+        Date certificatedAt = Date.valueOf(targetDate);
+
+        int created = 0;
+        long lastId = 0L;
+        while (true) {
+            Map<Long, Integer> attempts = new LinkedHashMap<>();
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                LocalDate startedDate = rs.getTimestamp("started_at").toLocalDateTime().toLocalDate();
+                attempts.put(rs.getLong("participant_id"), DateUtil.getAttemptCount(startedDate, targetDate));
+            }, lastId, nextDayStart, dayStart, certificatedAt, chunkSize);
+
+            if (attempts.isEmpty()) {
+                return created;
+            }
+            certificationService.saveAllNotYet(targetDate, attempts);
+            created += attempts.size();
+
+            if (attempts.size() < chunkSize) {
+                return created;
+            }
+            lastId = Collections.max(attempts.keySet());
+        }
+    }
+}
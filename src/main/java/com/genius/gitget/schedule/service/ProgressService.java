@@ -1,19 +1,25 @@
 package com.genius.gitget.schedule.service;
 
-import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
-import static com.genius.gitget.challenge.certification.domain.CertificateStatus.PASSED;
-
+import com.genius.gitget.challenge.certification.dto.ParticipantSuccessCount;
 import com.genius.gitget.challenge.certification.service.CertificationService;
 import com.genius.gitget.challenge.instance.domain.Instance;
 import com.genius.gitget.challenge.instance.domain.Progress;
 import com.genius.gitget.challenge.instance.repository.InstanceRepository;
 import com.genius.gitget.challenge.participant.domain.JoinResult;
-import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.schedule.dto.ProgressChunk;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,59 +28,134 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ProgressService {
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final int SETTLEMENT_BATCH_SIZE = 1000;
+
     private final CertificationService certificationService;
     private final InstanceRepository instanceRepository;
+    private final ParticipantRepository participantRepository;
     private final double SUCCESS_THRESHOLD = 85;
 
+    /*
+     * 시작일이 된 PREACTIVITY 인스턴스와 그 참여자들을 두 번의 update 문으로 ACTIVITY/PROCESSING으로 갱신
+     * 참여자는 인스턴스의 progress 조건으로 대상을 찾으므로 인스턴스보다 먼저 갱신한다.
+     * */
     @Transactional
     public void updateToActivity(LocalDate currentDate) {
-        List<Instance> preActivities = instanceRepository.findAllByProgress(Progress.PREACTIVITY);
-        for (Instance preActivity : preActivities) {
-            LocalDate startedDate = preActivity.getStartedDate().toLocalDate();
-            LocalDate completedDate = preActivity.getCompletedDate().toLocalDate();
+        LocalDateTime nextDayStart = currentDate.plusDays(1).atStartOfDay();
+        participantRepository.bulkUpdateJoinResultToActivity(Progress.PREACTIVITY, JoinResult.PROCESSING, nextDayStart);
+        instanceRepository.bulkUpdateToActivity(Progress.PREACTIVITY, Progress.ACTIVITY, nextDayStart);
+    }
 
-            if (isUpdatableToActivity(startedDate, currentDate) && currentDate.isBefore(completedDate)) {
-                updateActivityInstance(preActivity);
-            }
+    /*
+     * id가 afterId보다 큰 대상 인스턴스를 size개까지 ACTIVITY로 갱신
+     * 날짜 조건은 DB에서 걸러내고, 묶음마다 id 조회 1회 + update 2회만 실행한다.
+     * */
+    @Transactional
+    public ProgressChunk updateToActivity(LocalDate currentDate, Long afterId, int size) {
+        Slice<Long> instanceIds = instanceRepository.findIdsToActivate(
+                Progress.PREACTIVITY, currentDate.plusDays(1).atStartOfDay(), afterId, PageRequest.of(0, size));
+
+        List<Long> ids = instanceIds.getContent();
+        activateAll(ids);
+
+        Long lastId = ids.isEmpty() ? afterId : ids.get(ids.size() - 1);
+        return new ProgressChunk(lastId, ids.size(), instanceIds.hasNext());
+    }
+
+    @Transactional
+    public void updateToDone(LocalDate currentDate) {
+        ProgressChunk chunk = new ProgressChunk(0L, 0, true);
+        while (chunk.hasNext()) {
+            chunk = updateToDone(currentDate, chunk.lastId(), DEFAULT_CHUNK_SIZE);
         }
     }
 
-    private boolean isUpdatableToActivity(LocalDate startedDate, LocalDate currentDate) {
-        return currentDate.isEqual(startedDate) || currentDate.isAfter(startedDate);
+    /*
+     * id가 afterId보다 큰 PREACTIVITY/ACTIVITY 인스턴스 중 종료된 인스턴스를 size개까지 DONE으로 갱신
+     * 참여자 엔티티를 로딩하지 않고 참여자별 성공 횟수 집계만으로 결과를 정한다.
+     * */
+    @Transactional
+    public ProgressChunk updateToDone(LocalDate currentDate, Long afterId, int size) {
+        Slice<Instance> instances = instanceRepository.findChunkToDone(
+                List.of(Progress.PREACTIVITY, Progress.ACTIVITY), currentDate.atStartOfDay(), afterId,
+                PageRequest.of(0, size));
+
+        List<Instance> content = instances.getContent();
+        if (content.isEmpty()) {
+            return new ProgressChunk(afterId, 0, false);
+        }
+
+        Long lastId = content.get(content.size() - 1).getId();
+        completeAll(content);
+        return new ProgressChunk(lastId, content.size(), instances.hasNext());
     }
 
-    private void updateActivityInstance(Instance preActivity) {
-        preActivity.updateProgress(Progress.ACTIVITY);
-        for (Participant participant : preActivity.getParticipantList()) {
-            participant.updateJoinResult(JoinResult.PROCESSING);
+    /*
+     * 전환 시점이 된 인스턴스들만 골라서 처리할 때 사용
+     * 조건을 DB에서 다시 확인하므로, 그 사이 기간이 바뀌었거나 이미 전환된 인스턴스는 제외된다.
+     * */
+    @Transactional
+    public List<Long> activate(Collection<Long> instanceIds, LocalDate currentDate) {
+        if (instanceIds.isEmpty()) {
+            return List.of();
         }
+        List<Long> ids = instanceRepository.findIdsToActivateIn(
+                instanceIds, Progress.PREACTIVITY, currentDate.plusDays(1).atStartOfDay());
+        activateAll(ids);
+        return ids;
     }
 
     @Transactional
-    public void updateToDone(LocalDate currentDate) {
-        List<Instance> instances = new ArrayList<>();
-        instances.addAll(instanceRepository.findAllByProgress(Progress.PREACTIVITY));
-        instances.addAll(instanceRepository.findAllByProgress(Progress.ACTIVITY));
+    public List<Long> complete(Collection<Long> instanceIds, LocalDate currentDate) {
+        if (instanceIds.isEmpty()) {
+            return List.of();
+        }
+        List<Instance> instances = instanceRepository.findToDoneIn(
+                instanceIds, List.of(Progress.PREACTIVITY, Progress.ACTIVITY), currentDate.atStartOfDay());
+        List<Long> ids = instances.stream().map(Instance::getId).toList();
+        completeAll(instances);
+        return ids;
+    }
 
-        for (Instance instance : instances) {
-            LocalDate startedDate = instance.getStartedDate().toLocalDate();
-            LocalDate completedDate = instance.getCompletedDate().toLocalDate();
+    private void activateAll(List<Long> instanceIds) {
+        if (instanceIds.isEmpty()) {
+            return;
+        }
+        participantRepository.updateJoinResultByInstanceIds(instanceIds, JoinResult.PROCESSING);
+        instanceRepository.updateProgressByIds(instanceIds, Progress.ACTIVITY);
+    }
 
-            if (currentDate.isAfter(startedDate) && currentDate.isAfter(completedDate)) {
-                updateDoneInstance(instance, currentDate);
-            }
+    private void completeAll(List<Instance> instances) {
+        if (instances.isEmpty()) {
+            return;
         }
+        Map<Long, Integer> totalAttempts = instances.stream()
+                .collect(Collectors.toMap(Instance::getId, Instance::getTotalAttempt));
+        settleParticipants(totalAttempts);
+        instanceRepository.updateProgressByIds(totalAttempts.keySet(), Progress.DONE);
     }
 
-    private void updateDoneInstance(Instance instance, LocalDate currentDate) {
-        instance.updateProgress(Progress.DONE);
-        for (Participant participant : instance.getParticipantList()) {
-            int totalAttempt = instance.getTotalAttempt();
-            int successAttempt = getSuccessAttempt(participant.getId(), currentDate);
+    /*
+     * 참여자별 성공 횟수를 한 번의 group by로 집계한 뒤 기준치는 메모리에서 적용하고,
+     * 같은 결과를 가진 참여자들을 SETTLEMENT_BATCH_SIZE 단위로 묶어 update 한다.
+     * */
+    private void settleParticipants(Map<Long, Integer> totalAttempts) {
+        Map<JoinResult, List<Long>> results = new EnumMap<>(JoinResult.class);
+        for (ParticipantSuccessCount count : certificationService.countSuccessByInstances(totalAttempts.keySet())) {
+            int totalAttempt = totalAttempts.get(count.instanceId());
+            JoinResult joinResult = getJoinResult(totalAttempt, (int) Math.min(count.successCount(), totalAttempt));
 
-            JoinResult joinResult = getJoinResult(totalAttempt, successAttempt);
-            participant.updateJoinResult(joinResult);
+            results.computeIfAbsent(joinResult, key -> new ArrayList<>()).add(count.participantId());
         }
+
+        results.forEach((joinResult, participantIds) -> {
+            for (int from = 0; from < participantIds.size(); from += SETTLEMENT_BATCH_SIZE) {
+                List<Long> batch = participantIds.subList(
+                        from, Math.min(from + SETTLEMENT_BATCH_SIZE, participantIds.size()));
+                participantRepository.updateJoinResultByIds(batch, joinResult);
+            }
+        });
     }
 
     private JoinResult getJoinResult(int totalAttempt, int successAttempt) {
@@ -85,12 +166,6 @@ public class ProgressService {
         return JoinResult.FAIL;
     }
 
-    private int getSuccessAttempt(Long participantId, LocalDate currentDate) {
-        int certificated = certificationService.countByStatus(participantId, CERTIFICATED, currentDate);
-        int passed = certificationService.countByStatus(participantId, PASSED, currentDate);
-        return certificated + passed;
-    }
-
     private double getSuccessPercent(int successCount, int totalCount) {
         double successPercent = (double) successCount / (double) totalCount * 100;
         return Math.round(successPercent * 100 / 100.0);
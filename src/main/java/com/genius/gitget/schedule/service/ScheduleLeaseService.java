@@ -0,0 +1,99 @@
+package com.genius.gitget.schedule.service;
+
+import com.genius.gitget.schedule.domain.ProgressPhase;
+import com.genius.gitget.schedule.domain.ScheduleLease;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import com.genius.gitget.schedule.repository.ScheduleLeaseRepository;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * schedule_lease 테이블의 행 하나를 조건부 update하여 lease 획득/연장/반납
+ * 획득과 반납은 호출한 쪽의 트랜잭션과 상관없이 별도 트랜잭션으로 즉시 커밋하고,
+ * checkpoint는 묶음 작업과 같은 트랜잭션에서 기록하여 작업 결과와 진행 위치가 함께 커밋되도록 한다.
+ * */
+@Slf4j
+@Service
+public class ScheduleLeaseService {
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final ScheduleLeaseRepository scheduleLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public ScheduleLeaseService(ScheduleLeaseRepository scheduleLeaseRepository,
+                                PlatformTransactionManager transactionManager,
+                                Clock clock) {
+        this.scheduleLeaseRepository = scheduleLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+    }
+
+    public Optional<AcquiredLease> tryAcquire(String name, Duration duration) {
+        createIfAbsent(name);
+
+        String owner = NODE_ID + ":" + UUID.randomUUID();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (scheduleLeaseRepository.acquire(name, owner, now.plus(duration), now) == 0) {
+                return Optional.empty();
+            }
+            ScheduleLease lease = scheduleLeaseRepository.findById(name).orElseThrow();
+            return Optional.of(new AcquiredLease(name, owner,
+                    lease.getCheckpointDate(), lease.getCheckpointPhase(), lease.getCheckpointId()));
+        });
+    }
+
+    /*
+     * 진행 위치를 기록하면서 lease 만료 시각을 연장
+     * 그 사이 lease가 만료되어 다른 서버가 가져갔다면 예외를 던져 현재 묶음을 롤백한다.
+     * */
+    public void checkpoint(AcquiredLease lease, Duration duration,
+                           LocalDate currentDate, ProgressPhase phase, Long lastId) {
+        int updated = scheduleLeaseRepository.checkpoint(lease.name(), lease.owner(),
+                LocalDateTime.now(clock).plus(duration), currentDate, phase, lastId);
+        if (updated == 0) {
+            throw new IllegalStateException("schedule lease를 잃어 작업을 중단합니다: " + lease.name());
+        }
+    }
+
+    /*
+     * 작업이 중간에 실패한 경우 checkpoint를 남긴 채 lease만 반납
+     * */
+    public void release(AcquiredLease lease) {
+        transactionTemplate.executeWithoutResult(status ->
+                scheduleLeaseRepository.release(lease.name(), lease.owner()));
+    }
+
+    /*
+     * 작업을 끝까지 마친 경우 checkpoint를 지우고 lease 반납
+     * */
+    public void complete(AcquiredLease lease) {
+        transactionTemplate.executeWithoutResult(status ->
+                scheduleLeaseRepository.complete(lease.name(), lease.owner()));
+    }
+
+    private void createIfAbsent(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!scheduleLeaseRepository.existsById(name)) {
+                    scheduleLeaseRepository.saveAndFlush(new ScheduleLease(name, null, null));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("schedule lease {}는 다른 서버에서 이미 생성했습니다.", name);
+        }
+    }
+}
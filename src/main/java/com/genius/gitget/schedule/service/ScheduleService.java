@@ -1,29 +1,128 @@
 package com.genius.gitget.schedule.service;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.schedule.domain.ProgressPhase;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import com.genius.gitget.schedule.dto.ProgressChunk;
+import com.genius.gitget.schedule.dto.ScheduleRunStats;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/*
+ * 인스턴스 진행 상태 갱신 작업
+ * 스케줄러와 HTTP 요청 모두 같은 lease를 획득한 경우에만 실행하므로, 여러 서버가 떠 있어도 한 곳에서만 진행된다.
+ * 인스턴스 묶음마다 트랜잭션을 나누고 진행 위치를 함께 커밋하여, 중간에 중단되면 다음 실행에서 이어서 진행한다.
+ * */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class ScheduleService {
-    private final ProgressService scheduleService;
+    public static final String PROGRESS_LEASE = "instance-progress";
+
+    private final ProgressService progressService;
+    private final ScheduleLeaseService scheduleLeaseService;
+    private final KstClock kstClock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+    private final AtomicLong activatedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+
+    public ScheduleService(ProgressService progressService,
+                           ScheduleLeaseService scheduleLeaseService,
+                           KstClock kstClock,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${schedule.progress.chunk-size:200}") int chunkSize,
+                           @Value("${schedule.progress.lease-duration:5m}") Duration leaseDuration) {
+        this.progressService = progressService;
+        this.scheduleLeaseService = scheduleLeaseService;
+        this.kstClock = kstClock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
 
-    @Transactional
     @Scheduled(cron = "${schedule.cron}")
     public void run() {
-        LocalDate kstDate = DateUtil.convertToKST(LocalDateTime.now());
+        if (!updateProgress()) {
+            log.info("다른 서버에서 instance의 Progress 업데이트를 진행 중이므로 건너뜁니다.");
+        }
+    }
+
+    /*
+     * lease를 획득한 경우에만 진행 상태를 갱신하며, 실행 여부를 반환한다.
+     * */
+    public boolean updateProgress() {
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(PROGRESS_LEASE, leaseDuration);
+        if (acquired.isEmpty()) {
+            skippedCount.incrementAndGet();
+            return false;
+        }
 
+        AcquiredLease lease = acquired.get();
+        LocalDate kstDate = kstClock.today();
+        long startedAt = System.nanoTime();
         log.info(kstDate + ": Schedule 설정에 따라 instance의 Progress 업데이트 진행");
 
-        scheduleService.updateToActivity(kstDate);
-        scheduleService.updateToDone(kstDate);
+        try {
+            ProgressPhase startPhase = ProgressPhase.ACTIVITY;
+            Long startId = 0L;
+            if (lease.hasCheckpoint(kstDate)) {
+                startPhase = lease.checkpointPhase();
+                startId = lease.checkpointId();
+                log.info("중단된 Progress 업데이트를 {} 단계, instance id {} 이후부터 이어서 진행", startPhase, startId);
+            }
+
+            for (ProgressPhase phase : ProgressPhase.values()) {
+                if (phase.compareTo(startPhase) < 0) {
+                    continue;
+                }
+                runPhase(lease, kstDate, phase, phase == startPhase ? startId : 0L);
+            }
+
+            scheduleLeaseService.complete(lease);
+            runCount.incrementAndGet();
+            return true;
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            scheduleLeaseService.release(lease);
+            throw e;
+        } finally {
+            lastDurationMillis.set(Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        }
+    }
+
+    public ScheduleRunStats getStats() {
+        return new ScheduleRunStats(runCount.get(), skippedCount.get(), failedCount.get(),
+                lastDurationMillis.get(), activatedCount.get(), completedCount.get());
+    }
+
+    private void runPhase(AcquiredLease lease, LocalDate kstDate, ProgressPhase phase, Long startId) {
+        ProgressChunk chunk = new ProgressChunk(startId, 0, true);
+        while (chunk.hasNext()) {
+            Long afterId = chunk.lastId();
+            chunk = transactionTemplate.execute(status -> {
+                ProgressChunk processed = phase == ProgressPhase.ACTIVITY
+                        ? progressService.updateToActivity(kstDate, afterId, chunkSize)
+                        : progressService.updateToDone(kstDate, afterId, chunkSize);
+                scheduleLeaseService.checkpoint(lease, leaseDuration, kstDate, phase, processed.lastId());
+                return processed;
+            });
+
+            AtomicLong transitioned = phase == ProgressPhase.ACTIVITY ? activatedCount : completedCount;
+            transitioned.addAndGet(chunk.transitioned());
+        }
     }
 }
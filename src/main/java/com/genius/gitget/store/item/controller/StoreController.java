@@ -2,7 +2,7 @@ package com.genius.gitget.store.item.controller;
 
 import static com.genius.gitget.global.util.exception.SuccessCode.SUCCESS;
 
-import com.genius.gitget.challenge.certification.util.DateUtil;
+import com.genius.gitget.challenge.certification.util.KstClock;
 import com.genius.gitget.challenge.user.domain.User;
 import com.genius.gitget.global.util.annotation.GitGetUser;
 import com.genius.gitget.global.util.response.dto.CommonResponse;
@@ -13,7 +13,6 @@ import com.genius.gitget.store.item.dto.ItemResponse;
 import com.genius.gitget.store.item.dto.OrderResponse;
 import com.genius.gitget.store.item.dto.ProfileResponse;
 import com.genius.gitget.store.item.facade.StoreFacade;
-import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api")
 public class StoreController {
     private final StoreFacade storeFacade;
+    private final KstClock kstClock;
 
     @GetMapping("/items")
     public ResponseEntity<ListResponse<ItemResponse>> getItemList(
@@ -62,7 +62,7 @@ public class StoreController {
             @RequestParam(required = false) Long instanceId
     ) {
         OrderResponse orderResponse = storeFacade.useItem(user, identifier,
-                instanceId, DateUtil.convertToKST(LocalDateTime.now()));
+                instanceId, kstClock.today());
 
         return ResponseEntity.ok().body(
                 new SingleResponse<>(SUCCESS.getStatus(), SUCCESS.getMessage(), orderResponse)
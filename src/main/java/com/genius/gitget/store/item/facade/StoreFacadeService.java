@@ -142,7 +142,7 @@ public class StoreFacadeService implements StoreFacade {
         instance.validateCertificateCondition(currentDate);
         certification.validatePassCondition();
 
-        certification.updateToPass(currentDate);
+        certificationService.updateToPass(certification, currentDate);
 
         ordersService.useItem(orders);
         return OrderResponse.of(itemId);
@@ -1,5 +1,6 @@
 package com.genius.gitget.store.item.repository;
 
+import com.genius.gitget.store.item.domain.EquipStatus;
 import com.genius.gitget.store.item.domain.ItemCategory;
 import com.genius.gitget.store.item.domain.Orders;
 import java.util.List;
@@ -17,4 +18,9 @@ public interface OrdersRepository extends JpaRepository<Orders, Long> {
     @Query("select u from Orders u where u.user.id = :userId and u.item.id = :itemId")
     Optional<Orders> findByOrderInfo(@Param("userId") Long userId,
                                      @Param("itemId") Long itemId);
+
+    @Query("select u from Orders u join fetch u.item where u.user.id in :userIds and u.item.itemCategory = :category and u.equipStatus = :equipStatus")
+    List<Orders> findAllByEquipStatus(@Param("userIds") List<Long> userIds,
+                                      @Param("category") ItemCategory category,
+                                      @Param("equipStatus") EquipStatus equipStatus);
 }
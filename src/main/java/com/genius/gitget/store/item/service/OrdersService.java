@@ -10,7 +10,9 @@ import com.genius.gitget.store.item.domain.Item;
 import com.genius.gitget.store.item.domain.ItemCategory;
 import com.genius.gitget.store.item.domain.Orders;
 import com.genius.gitget.store.item.repository.OrdersRepository;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -78,6 +80,33 @@ public class OrdersService {
         return usingFrames.get(0).getItem();
     }
 
+    /*
+     * 여러 사용자가 장착 중인 프레임을 한 번의 조회로 반환
+     * 장착 중인 프레임이 없는 사용자는 getUsingFrameItem()과 동일하게 식별자가 없는 프레임 아이템을 가진다.
+     * */
+    public Map<Long, Item> getUsingFrameItems(List<Long> userIds) {
+        Map<Long, Item> usingFrames = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return usingFrames;
+        }
+
+        List<Orders> frames = ordersRepository.findAllByEquipStatus(
+                userIds, ItemCategory.PROFILE_FRAME, EquipStatus.IN_USE);
+        for (Orders frame : frames) {
+            if (usingFrames.put(frame.getUser().getId(), frame.getItem()) != null) {
+                throw new BusinessException(ErrorCode.TOO_MANY_USING_FRAME);
+            }
+        }
+
+        for (Long userId : userIds) {
+            usingFrames.computeIfAbsent(userId, id -> Item.builder()
+                    .itemCategory(ItemCategory.PROFILE_FRAME)
+                    .identifier(null)
+                    .build());
+        }
+        return usingFrames;
+    }
+
     @Transactional
     public void useItem(Orders orders) {
         orders.useItem();
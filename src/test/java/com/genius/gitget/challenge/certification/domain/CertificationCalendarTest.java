@@ -0,0 +1,123 @@
+package com.genius.gitget.challenge.certification.domain;
+
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.NOT_YET;
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.PASSED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.dto.StatusCount;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CertificationCalendarTest {
+
+    @Test
+    @DisplayName("회차별로 기록한 인증 상태를 다시 조회할 수 있으며, 기록하지 않은 회차는 NOT_YET이다.")
+    public void should_returnStatus_when_marked() {
+        //given
+        CertificationCalendar calendar = new CertificationCalendar(1L);
+
+        //when
+        calendar.mark(1, CERTIFICATED);
+        calendar.mark(2, PASSED);
+        calendar.mark(33, CERTIFICATED);
+        calendar.mark(1, NOT_YET);
+
+        //then
+        assertThat(calendar.get(1)).isEqualTo(NOT_YET);
+        assertThat(calendar.get(2)).isEqualTo(PASSED);
+        assertThat(calendar.get(3)).isEqualTo(NOT_YET);
+        assertThat(calendar.get(33)).isEqualTo(CERTIFICATED);
+        assertThat(calendar.get(100)).isEqualTo(NOT_YET);
+    }
+
+    @Test
+    @DisplayName("여러 long에 걸친 구간의 상태별 개수를 집계할 수 있다.")
+    public void should_countStatus_when_rangeSpansWords() {
+        //given
+        CertificationCalendar calendar = new CertificationCalendar(1L);
+        for (int attempt = 1; attempt <= 70; attempt++) {
+            calendar.mark(attempt, attempt % 3 == 0 ? PASSED : CERTIFICATED);
+        }
+        calendar.mark(40, NOT_YET);
+
+        //when
+        StatusCount total = calendar.count(1, 70);
+        StatusCount week = calendar.count(29, 35);
+        StatusCount beyond = calendar.count(65, 80);
+
+        //then
+        assertThat(total.passed()).isEqualTo(23);
+        assertThat(total.certificated()).isEqualTo(46);
+        assertThat(total.notYet()).isEqualTo(1);
+        assertThat(week.getSuccessCount()).isEqualTo(7);
+        assertThat(week.passed()).isEqualTo(2);
+        assertThat(beyond.getSuccessCount()).isEqualTo(6);
+        assertThat(beyond.notYet()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("인증 기록으로부터 달력을 만들 수 있다.")
+    public void should_buildCalendar_when_passCertifications() {
+        //given
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        List<Certification> certifications = List.of(
+                Certification.of(CERTIFICATED, 1, startDate),
+                Certification.of(NOT_YET, 2, startDate.plusDays(1)),
+                Certification.of(PASSED, 3, startDate.plusDays(2))
+        );
+
+        //when
+        CertificationCalendar calendar = CertificationCalendar.of(1L, certifications);
+
+        //then
+        assertThat(calendar.count(1, 3)).isEqualTo(new StatusCount(1, 1, 1));
+        assertThat(calendar.get(3)).isEqualTo(PASSED);
+    }
+
+    @Test
+    @DisplayName("인증 상태가 바뀌면 전체 집계 컬럼도 함께 갱신되어야 한다.")
+    public void should_updateCounters_when_statusChanged() {
+        //given
+        CertificationCalendar calendar = new CertificationCalendar(1L);
+
+        //when
+        calendar.mark(1, CERTIFICATED);
+        calendar.mark(2, CERTIFICATED);
+        calendar.mark(2, PASSED);
+        calendar.mark(5, NOT_YET);
+
+        //then
+        assertThat(calendar.getCertificatedCount()).isEqualTo(1);
+        assertThat(calendar.getPassedCount()).isEqualTo(1);
+        assertThat(calendar.getLastAttempt()).isEqualTo(5);
+        assertThat(calendar.count(10)).isEqualTo(new StatusCount(8, 1, 1));
+        assertThat(calendar.count(1)).isEqualTo(new StatusCount(0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("인증 기록과 달력이 어긋났다면 인증 기록 기준으로 복구해야 한다.")
+    public void should_repair_when_drifted() {
+        //given
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        List<Certification> certifications = List.of(
+                Certification.of(CERTIFICATED, 1, startDate),
+                Certification.of(PASSED, 2, startDate.plusDays(1))
+        );
+        CertificationCalendar calendar = CertificationCalendar.of(1L, certifications);
+        calendar.mark(3, CERTIFICATED);
+
+        //when
+        boolean drifted = calendar.reconcile(certifications);
+        boolean driftedAgain = calendar.reconcile(certifications);
+
+        //then
+        assertThat(drifted).isTrue();
+        assertThat(driftedAgain).isFalse();
+        assertThat(calendar.get(3)).isEqualTo(NOT_YET);
+        assertThat(calendar.getCertificatedCount()).isEqualTo(1);
+        assertThat(calendar.getLastAttempt()).isEqualTo(2);
+    }
+}
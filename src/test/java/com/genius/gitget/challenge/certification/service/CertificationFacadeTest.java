@@ -219,6 +219,27 @@ class CertificationFacadeTest {
 
                 assertThat(totalResponse.certifications().size()).isEqualTo(9);
             }
+
+            @Test
+            @DisplayName("회차 단위로 나누어 조회하면, 페이지 크기만큼의 회차와 해당 회차의 인증 기록을 반환해야 한다.")
+            public void it_returns_slice_of_attempts() {
+                certificationRepository.save(
+                        CertificationFactory.createCertificated(participant, LocalDate.of(2024, 8, 10)));
+
+                Slice<CertificationResponse> first = certificationFacade.getTotalCertification(
+                        participant.getId(), currentDate, PageRequest.of(0, 4));
+                Slice<CertificationResponse> last = certificationFacade.getTotalCertification(
+                        participant.getId(), currentDate, PageRequest.of(2, 4));
+
+                assertThat(first.getContent()).hasSize(4);
+                assertThat(first.hasNext()).isTrue();
+                assertThat(first.getContent().get(0).certificationAttempt()).isEqualTo(1);
+                assertThat(last.getContent()).hasSize(1);
+                assertThat(last.hasNext()).isFalse();
+                assertThat(certificationFacade.getTotalCertification(
+                        participant.getId(), currentDate, PageRequest.of(1, 4)).getContent().get(1)
+                        .certificateStatus()).isEqualTo(CERTIFICATED);
+            }
         }
 
         @Nested
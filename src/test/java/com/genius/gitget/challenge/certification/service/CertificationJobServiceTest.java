@@ -0,0 +1,115 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.genius.gitget.challenge.certification.domain.CertificationJobStatus;
+import com.genius.gitget.challenge.certification.dto.CertificationJobResponse;
+import com.genius.gitget.challenge.certification.dto.CertificationRequest;
+import com.genius.gitget.challenge.certification.dto.CertificationResponse;
+import com.genius.gitget.challenge.certification.facade.CertificationFacade;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.global.util.exception.BusinessException;
+import com.genius.gitget.global.util.exception.ErrorCode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CertificationJobServiceTest {
+    private final CertificationFacade certificationFacade = mock(CertificationFacade.class);
+    private final CertificationJobService certificationJobService =
+            new CertificationJobService(certificationFacade, 2, 10, Duration.ofMinutes(10));
+    private final CertificationRequest request = CertificationRequest.of(1L, LocalDate.of(2024, 2, 15));
+
+    @AfterEach
+    void shutdown() {
+        certificationJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 챌린지, 같은 일자의 인증 작업이 진행 중이라면 새로 생성하지 않고 기존 작업 id를 반환한다.")
+    public void should_coalesce_when_sameRequestInFlight() throws InterruptedException {
+        //given
+        User user = createUser(1L);
+        CountDownLatch release = new CountDownLatch(1);
+        CertificationResponse certificationResponse = CertificationResponse.builder().build();
+        when(certificationFacade.updateCertification(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return certificationResponse;
+        });
+
+        //when
+        CertificationJobResponse first = certificationJobService.submit(user, request);
+        CertificationJobResponse second = certificationJobService.submit(user, request);
+        release.countDown();
+        CertificationJobResponse done = awaitCompletion(1L, first.jobId());
+
+        //then
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+        assertThat(done.status()).isEqualTo(CertificationJobStatus.DONE);
+        assertThat(done.certification()).isSameAs(certificationResponse);
+        verify(certificationFacade, times(1)).updateCertification(any(), any());
+    }
+
+    @Test
+    @DisplayName("인증 과정에서 예외가 발생하면 작업은 FAILED 상태와 함께 예외 메시지를 반환한다.")
+    public void should_fail_when_certificationThrows() throws InterruptedException {
+        //given
+        User user = createUser(1L);
+        when(certificationFacade.updateCertification(any(), any()))
+                .thenThrow(new BusinessException(ErrorCode.GITHUB_PR_NOT_FOUND));
+
+        //when
+        CertificationJobResponse submitted = certificationJobService.submit(user, request);
+        CertificationJobResponse failed = awaitCompletion(1L, submitted.jobId());
+
+        //then
+        assertThat(failed.status()).isEqualTo(CertificationJobStatus.FAILED);
+        assertThat(failed.errorMessage()).isEqualTo(ErrorCode.GITHUB_PR_NOT_FOUND.getMessage());
+        assertThat(certificationJobService.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 인증 작업을 조회하면 예외가 발생한다.")
+    public void should_throwException_when_otherUserPolls() {
+        //given
+        User user = createUser(1L);
+        when(certificationFacade.updateCertification(any(), any()))
+                .thenReturn(CertificationResponse.builder().build());
+
+        //when
+        CertificationJobResponse submitted = certificationJobService.submit(user, request);
+
+        //then
+        assertThatThrownBy(() -> certificationJobService.getJob(2L, submitted.jobId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.CERTIFICATION_JOB_NOT_FOUND.getMessage());
+    }
+
+    private CertificationJobResponse awaitCompletion(Long userId, String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            CertificationJobResponse response = certificationJobService.getJob(userId, jobId);
+            if (response.status() == CertificationJobStatus.DONE
+                    || response.status() == CertificationJobStatus.FAILED) {
+                return response;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("인증 작업이 제한 시간 안에 완료되지 않았습니다.");
+    }
+
+    private User createUser(Long id) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        return user;
+    }
+}
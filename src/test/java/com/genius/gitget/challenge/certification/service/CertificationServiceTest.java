@@ -2,10 +2,13 @@ package com.genius.gitget.challenge.certification.service;
 
 import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
 import static com.genius.gitget.challenge.certification.domain.CertificateStatus.NOT_YET;
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.PASSED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.genius.gitget.challenge.certification.domain.CertificateStatus;
 import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.dto.StatusCount;
 import com.genius.gitget.challenge.instance.domain.Instance;
 import com.genius.gitget.challenge.instance.domain.Progress;
 import com.genius.gitget.challenge.instance.repository.InstanceRepository;
@@ -15,9 +18,12 @@ import com.genius.gitget.challenge.user.domain.Role;
 import com.genius.gitget.challenge.user.domain.User;
 import com.genius.gitget.challenge.user.repository.UserRepository;
 import com.genius.gitget.global.security.constants.ProviderInfo;
+import com.genius.gitget.global.util.exception.BusinessException;
+import com.genius.gitget.global.util.exception.ErrorCode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -102,6 +108,35 @@ class CertificationServiceTest {
         assertThat(certificated).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("여러 참여자의 상태별 인증 개수를 한 번에 받아올 수 있으며, 인증 기록이 없는 참여자는 0으로 집계된다.")
+    public void should_countAllStatus_when_passParticipants() {
+        //given
+        LocalDate startDate = LocalDate.of(2024, 2, 1);
+        LocalDate endDate = LocalDate.of(2024, 2, 5);
+        User user = getSavedUser();
+        Instance instance = getSavedInstance();
+        Participant participant = getSavedParticipant(user, instance);
+        Participant empty = getSavedParticipant(user, getSavedInstance());
+
+        getSavedCertification(startDate, CERTIFICATED, "link1", participant);
+        getSavedCertification(startDate.plusDays(1), PASSED, null, participant);
+        getSavedCertification(endDate.minusDays(1), NOT_YET, null, participant);
+        getSavedCertification(endDate.plusDays(1), CERTIFICATED, "link1", participant);
+
+        //when
+        Map<Long, StatusCount> statusCounts = certificationService.countByStatus(
+                List.of(participant.getId(), empty.getId()), endDate);
+
+        //then
+        StatusCount statusCount = statusCounts.get(participant.getId());
+        assertThat(statusCount.certificated()).isEqualTo(1);
+        assertThat(statusCount.passed()).isEqualTo(1);
+        assertThat(statusCount.notYet()).isEqualTo(1);
+        assertThat(statusCount.getSuccessCount()).isEqualTo(2);
+        assertThat(statusCounts.get(empty.getId())).isEqualTo(StatusCount.EMPTY);
+    }
+
     @Test
     @DisplayName("사용자가 인증을 생성/갱신할 수 있다.")
     public void should_renewCertification() {
@@ -141,6 +176,106 @@ class CertificationServiceTest {
         assertThat(updatedCertification.getCertificationLinks()).isEqualTo("pr link1,pr link2,");
     }
 
+    @Test
+    @DisplayName("PR 링크를 전달하면, 해당 PR을 사용한 인증 목록을 받아올 수 있다.")
+    public void should_findCertifications_when_passPullRequestUrl() {
+        //given
+        User user = getSavedUser();
+        Participant participant = getSavedParticipant(user, getSavedInstance());
+        Participant other = getSavedParticipant(user, getSavedInstance());
+        LocalDate targetDate = LocalDate.of(2024, 2, 1);
+        String pullRequest = "https://github.com/githubId/repo/pull/7";
+
+        Certification certification = certificationService.createCertificated(participant, targetDate,
+                List.of(pullRequest, "https://github.com/githubId/repo/pull/8"));
+        certificationService.createCertificated(other, targetDate,
+                List.of("https://github.com/githubId/repo/pull/9"));
+
+        //when
+        List<Certification> certifications = certificationService.findByPullRequest(pullRequest);
+
+        //then
+        assertThat(certifications).extracting(Certification::getId).containsExactly(certification.getId());
+    }
+
+    @Test
+    @DisplayName("다른 참여자의 인증에 이미 사용된 PR로만 인증하려고 하면 예외가 발생한다.")
+    public void should_throwException_when_pullRequestAlreadyUsed() {
+        //given
+        User user = getSavedUser();
+        Participant participant = getSavedParticipant(user, getSavedInstance());
+        Participant other = getSavedParticipant(user, getSavedInstance());
+        LocalDate targetDate = LocalDate.of(2024, 2, 1);
+        String pullRequest = "https://github.com/githubId/repo/pull/10";
+
+        certificationService.upsertCertificated(participant, targetDate, List.of(pullRequest));
+
+        //when & then
+        assertThatThrownBy(() -> certificationService.upsertCertificated(other, targetDate, List.of(pullRequest)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.GITHUB_PR_ALREADY_USED.getMessage());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 PR과 새로운 PR을 함께 전달하면, 새로운 PR만으로 인증된다.")
+    public void should_excludeUsedPullRequest_when_certifyWithNewPullRequest() {
+        //given
+        User user = getSavedUser();
+        Participant participant = getSavedParticipant(user, getSavedInstance());
+        Participant other = getSavedParticipant(user, getSavedInstance());
+        LocalDate targetDate = LocalDate.of(2024, 2, 1);
+        String used = "https://github.com/githubId/repo/pull/11";
+        String fresh = "https://github.com/githubId/repo/pull/12";
+
+        certificationService.upsertCertificated(participant, targetDate, List.of(used));
+
+        //when
+        Certification certification = certificationService.upsertCertificated(other, targetDate,
+                List.of(used, fresh));
+
+        //then
+        assertThat(certification.getCertificationStatus()).isEqualTo(CERTIFICATED);
+        assertThat(certification.getCertificationLinks()).isEqualTo(fresh + ",");
+    }
+
+    @Test
+    @DisplayName("이미 조회된 인증을 갱신하면, 반환된 인증에 갱신된 상태와 PR 링크가 반영되어 있다.")
+    public void should_returnUpdatedCertification_when_certificationAlreadyLoaded() {
+        //given
+        User user = getSavedUser();
+        Participant participant = getSavedParticipant(user, getSavedInstance());
+        LocalDate targetDate = LocalDate.of(2024, 2, 1);
+        String pullRequest = "https://github.com/githubId/repo/pull/14";
+        Certification loaded = getSavedCertification(targetDate, NOT_YET, "", participant);
+
+        //when
+        Certification certification = certificationService.upsertCertificated(participant, targetDate,
+                List.of(pullRequest));
+
+        //then
+        assertThat(certification.getId()).isEqualTo(loaded.getId());
+        assertThat(certification.getCertificationStatus()).isEqualTo(CERTIFICATED);
+        assertThat(certification.getCertificationLinks()).isEqualTo(pullRequest + ",");
+    }
+
+    @Test
+    @DisplayName("사용 이력 확인 없이 이미 사용된 PR을 저장하더라도, unique key 위반은 사용된 PR 예외로 처리된다.")
+    public void should_throwException_when_pullRequestLinkDuplicated() {
+        //given
+        User user = getSavedUser();
+        Participant participant = getSavedParticipant(user, getSavedInstance());
+        Participant other = getSavedParticipant(user, getSavedInstance());
+        LocalDate targetDate = LocalDate.of(2024, 2, 1);
+        String pullRequest = "https://github.com/githubId/repo/pull/13";
+
+        certificationService.createCertificated(participant, targetDate, List.of(pullRequest));
+
+        //when & then
+        assertThatThrownBy(() -> certificationService.createCertificated(other, targetDate, List.of(pullRequest)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.GITHUB_PR_ALREADY_USED.getMessage());
+    }
+
     private Certification getSavedCertification(LocalDate certificatedAt, CertificateStatus status,
                                                 String link, Participant participant) {
         Certification certification = certificationService.save(
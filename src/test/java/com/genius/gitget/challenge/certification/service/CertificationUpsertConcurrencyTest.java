@@ -0,0 +1,124 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
+import static com.genius.gitget.challenge.user.domain.Role.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.JoinStatus;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.instance.InstanceFactory;
+import com.genius.gitget.util.participant.ParticipantFactory;
+import com.genius.gitget.util.user.UserFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 여러 스레드가 각자의 트랜잭션에서 인증을 갱신해야 하므로 테스트 클래스 단위 트랜잭션을 사용하지 않고,
+ * 테스트가 끝나면 직접 생성한 데이터를 삭제한다.
+ * */
+@SpringBootTest
+class CertificationUpsertConcurrencyTest {
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private CertificationService certificationService;
+    @Autowired
+    private CertificationRepository certificationRepository;
+    @Autowired
+    private CertificationCalendarRepository certificationCalendarRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private InstanceRepository instanceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Participant participant;
+
+    @BeforeEach
+    void setup() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long instanceId = transactionTemplate.execute(status -> {
+            User user = userRepository.save(UserFactory.createByInfo("concurrency", USER));
+            Instance instance = instanceRepository.save(InstanceFactory.createActivity(10));
+            participantRepository.save(ParticipantFactory.createProcessing(user, instance));
+            return instance.getId();
+        });
+        participant = participantRepository.findAllWithUserByInstanceId(instanceId, JoinStatus.YES).get(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        certificationCalendarRepository.deleteAllInBatch();
+        certificationRepository.deleteAllInBatch();
+        participantRepository.deleteAllInBatch();
+        instanceRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 참여자의 같은 일자 인증을 동시에 갱신해도, 인증은 하나만 생성되고 달력도 한 번만 집계되어야 한다.")
+    public void should_createOnlyOne_when_upsertConcurrently() throws InterruptedException {
+        //given
+        LocalDate targetDate = participant.getStartedDate();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String pullRequest = "https://github.com/concurrency/targetRepo/pull/" + i;
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    certificationService.upsertCertificated(participant, targetDate, List.of(pullRequest));
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        //then
+        List<Certification> certifications = certificationRepository.findByDuration(
+                targetDate, targetDate, participant.getId());
+        CertificationCalendar calendar = certificationCalendarRepository
+                .findByParticipantId(participant.getId()).orElseThrow();
+
+        assertThat(failures).isEmpty();
+        assertThat(certifications).hasSize(1);
+        assertThat(certifications.get(0).getCertificationStatus()).isEqualTo(CERTIFICATED);
+        assertThat(calendar.getCertificatedCount()).isEqualTo(1);
+        assertThat(calendar.get(1)).isEqualTo(CERTIFICATED);
+    }
+}
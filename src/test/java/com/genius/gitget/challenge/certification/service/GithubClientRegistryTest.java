@@ -0,0 +1,94 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.genius.gitget.challenge.certification.dto.github.GithubClientStats;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GitHub;
+
+class GithubClientRegistryTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-02-15T00:00:00Z"));
+    private final GithubClientRegistry registry = new GithubClientRegistry(Duration.ofMinutes(30), clock);
+
+    @Test
+    @DisplayName("같은 사용자, 같은 토큰으로 요청하면 이전에 생성한 GitHub 클라이언트를 재사용한다.")
+    public void should_reuseClient_when_tokenNotChanged() {
+        //given
+        GitHub gitHub = mock(GitHub.class);
+        registry.getOrCreate(1L, "encrypted", () -> gitHub);
+
+        //when
+        GitHub cached = registry.getOrCreate(1L, "encrypted", () -> mock(GitHub.class));
+
+        //then
+        GithubClientStats stats = registry.getStats();
+        assertThat(cached).isSameAs(gitHub);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 변경되면 기존 클라이언트를 제거하고 새로 생성한다.")
+    public void should_evictClient_when_tokenChanged() {
+        //given
+        GitHub gitHub = mock(GitHub.class);
+        registry.getOrCreate(1L, "encrypted", () -> gitHub);
+
+        //when
+        GitHub renewed = registry.getOrCreate(1L, "re-encrypted", () -> mock(GitHub.class));
+
+        //then
+        assertThat(renewed).isNotSameAs(gitHub);
+        assertThat(registry.getStats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("idle-timeout 동안 사용되지 않은 클라이언트는 제거된다.")
+    public void should_evictClient_when_idleTimeoutPassed() {
+        //given
+        registry.getOrCreate(1L, "encrypted", () -> mock(GitHub.class));
+        clock.advance(Duration.ofMinutes(31));
+
+        //when
+        registry.evictIdleClients();
+
+        //then
+        GithubClientStats stats = registry.getStats();
+        assertThat(stats.cachedClients()).isZero();
+        assertThat(stats.evictionCount()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            this.instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static com.genius.gitget.challenge.certification.domain.CertificateStatus.CERTIFICATED;
+import static com.genius.gitget.challenge.user.domain.Role.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationLinkRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestRepository;
+import com.genius.gitget.challenge.certification.util.WebhookSignature;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.instance.InstanceFactory;
+import com.genius.gitget.util.participant.ParticipantFactory;
+import com.genius.gitget.util.user.UserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/*
+ * webhook은 별도 스레드와 트랜잭션에서 처리되므로 테스트 클래스 단위 트랜잭션을 사용하지 않고,
+ * 테스트가 끝나면 직접 생성한 데이터를 삭제한다.
+ * PR 사용 이력은 커밋 이후 메모리에도 남으므로, 테스트마다 다른 PR 번호를 사용한다.
+ * */
+@SpringBootTest(properties = "github.webhook.secret=" + GithubWebhookServiceTest.SECRET)
+class GithubWebhookServiceTest {
+    static final String SECRET = "webhook-secret";
+    private static final String INSTANCE_UUID = "3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+    private static final LocalDate TARGET_DATE = LocalDate.of(2024, 2, 5);
+
+    @Autowired
+    private GithubWebhookService githubWebhookService;
+    @Autowired
+    private CertificationRepository certificationRepository;
+    @Autowired
+    private CertificationLinkRepository certificationLinkRepository;
+    @Autowired
+    private CertificationCalendarRepository certificationCalendarRepository;
+    @Autowired
+    private PullRequestRepository pullRequestRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private InstanceRepository instanceRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        certificationLinkRepository.deleteAllInBatch();
+        certificationCalendarRepository.deleteAllInBatch();
+        certificationRepository.deleteAllInBatch();
+        pullRequestRepository.deleteAllInBatch();
+        participantRepository.deleteAllInBatch();
+        instanceRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("서명된 PR opened 이벤트를 수신하면, 같은 레포지토리로 참여 중인 챌린지가 인증되어야 한다.")
+    public void should_certificate_when_receivePullRequestOpened() throws Exception {
+        //given
+        Participant participant = saveParticipant("octocat", "gitget-challenge");
+        byte[] payload = readPayload("octocat", 12);
+        long processedCount = githubWebhookService.getProcessedCount();
+
+        //when
+        githubWebhookService.receive("pull_request", WebhookSignature.sign(SECRET, payload), payload);
+        awaitProcessed(processedCount + 1);
+
+        //then
+        Certification certification = certificationRepository.findByDate(TARGET_DATE, participant.getId())
+                .orElseThrow();
+        assertThat(certification.getCertificationStatus()).isEqualTo(CERTIFICATED);
+        assertThat(certification.getCertificationLinks())
+                .contains("https://github.com/octocat/gitget-challenge/pull/12");
+    }
+
+    @Test
+    @DisplayName("레포지토리 소유자와 이름은 대소문자를 구분하지 않고 비교해야 한다.")
+    public void should_certificate_when_repositoryNameCaseDiffers() throws IOException {
+        //given
+        Participant participant = saveParticipant("octocat", "GitGet-Challenge");
+        byte[] payload = readPayload("OctoCat", 13);
+
+        //when
+        githubWebhookService.process(githubWebhookService.parse(payload));
+
+        //then
+        Optional<Certification> certification = certificationRepository.findByDate(TARGET_DATE, participant.getId());
+        assertThat(certification).isPresent();
+        assertThat(certification.get().getCertificationStatus()).isEqualTo(CERTIFICATED);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 같은 이름 레포지토리에 올린 PR로는 인증되지 않아야 한다.")
+    public void should_notCertificate_when_repositoryOwnedByAnotherUser() throws IOException {
+        //given
+        Participant participant = saveParticipant("octocat", "gitget-challenge");
+        byte[] payload = readPayload("another", 14);
+
+        //when
+        githubWebhookService.process(githubWebhookService.parse(payload));
+
+        //then
+        assertThat(certificationRepository.findByDate(TARGET_DATE, participant.getId())).isEmpty();
+        assertThat(pullRequestRepository.findByRepositoryFullNameAndPrNumber("another/gitget-challenge", 14))
+                .isPresent();
+    }
+
+    private Participant saveParticipant(String identifier, String repositoryName) {
+        User user = userRepository.save(UserFactory.createByInfo(identifier, USER));
+        Instance instance = InstanceFactory.createByInfo(TARGET_DATE.minusDays(3), Progress.ACTIVITY);
+        instance.setInstanceUUID(INSTANCE_UUID);
+        instanceRepository.save(instance);
+
+        Participant participant = ParticipantFactory.createProcessing(user, instance);
+        participant.updateRepository(repositoryName);
+        return participantRepository.save(participant);
+    }
+
+    /*
+     * 기록된 payload에서 레포지토리 소유자와 PR 번호만 바꿔서 반환
+     * */
+    private byte[] readPayload(String owner, int prNumber) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/github/pull_request_opened.json")) {
+            String payload = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)
+                    .replace("octocat/gitget-challenge", owner + "/gitget-challenge")
+                    .replace("\"number\": 12", "\"number\": " + prNumber)
+                    .replace("/pull/12", "/pull/" + prNumber)
+                    .replace("/pulls/12", "/pulls/" + prNumber);
+            return payload.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private void awaitProcessed(long expected) throws InterruptedException {
+        for (int i = 0; i < 100 && githubWebhookService.getProcessedCount() < expected; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(githubWebhookService.getProcessedCount()).isGreaterThanOrEqualTo(expected);
+    }
+}
@@ -0,0 +1,155 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import com.genius.gitget.challenge.certification.domain.PullRequestCursor;
+import com.genius.gitget.challenge.certification.repository.PullRequestCursorRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestJdbcRepository;
+import com.genius.gitget.challenge.certification.repository.PullRequestRepository;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+ * 수집 결과는 별도 트랜잭션에서 커밋되므로 테스트 클래스 단위 트랜잭션을 사용하지 않고,
+ * 테스트가 끝나면 직접 생성한 데이터를 삭제한다.
+ * */
+@SpringBootTest
+class PullRequestHarvesterTest {
+    private static final String REPOSITORY_FULL_NAME = "SSung023/GitGet";
+    private static final Instant BASE_TIME = Instant.parse("2024-02-01T00:00:00Z");
+
+    @Autowired
+    private PullRequestRepository pullRequestRepository;
+    @Autowired
+    private PullRequestCursorRepository pullRequestCursorRepository;
+    @Autowired
+    private PullRequestJdbcRepository pullRequestJdbcRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final GithubService githubService = mock(GithubService.class);
+    private final GitHub gitHub = mock(GitHub.class);
+    private PullRequestHarvester pullRequestHarvester;
+
+    @BeforeEach
+    void setup() {
+        pullRequestHarvester = new PullRequestHarvester(githubService, pullRequestRepository,
+                pullRequestCursorRepository, pullRequestJdbcRepository, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        pullRequestRepository.deleteAllInBatch();
+        pullRequestCursorRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("PR이 한 페이지(100건)보다 많다면, 모든 페이지를 순회하여 저장한다.")
+    public void should_harvestAllPages_when_pullRequestsExceedPageSize() throws IOException {
+        //given
+        List<GHPullRequest> pullRequests = new ArrayList<>();
+        for (int number = 250; number >= 1; number--) {
+            pullRequests.add(createGHPullRequest(number, number, "body"));
+        }
+        when(githubService.getPullRequestsByUpdated(gitHub, REPOSITORY_FULL_NAME)).thenReturn(pullRequests);
+
+        //when
+        int harvested = pullRequestHarvester.harvest(gitHub, REPOSITORY_FULL_NAME);
+
+        //then
+        PullRequestCursor cursor = pullRequestCursorRepository.findByRepositoryFullName(REPOSITORY_FULL_NAME)
+                .orElseThrow();
+        assertThat(harvested).isEqualTo(250);
+        assertThat(pullRequestRepository.count()).isEqualTo(250);
+        assertThat(cursor.getLastPrNumber()).isEqualTo(250);
+        assertThat(cursor.getLastUpdatedAt()).isEqualTo(toUtc(250));
+    }
+
+    @Test
+    @DisplayName("수집 위치보다 이전에 수정된 PR을 만나면, 그 이후의 PR은 조회하지 않는다.")
+    public void should_stopAtCursor_when_reachHarvestedPullRequest() throws IOException {
+        //given
+        when(githubService.getPullRequestsByUpdated(gitHub, REPOSITORY_FULL_NAME))
+                .thenReturn(List.of(createGHPullRequest(1, 10, "body")));
+        pullRequestHarvester.harvest(gitHub, REPOSITORY_FULL_NAME);
+
+        GHPullRequest older = createGHPullRequest(2, 5, "body");
+        GHPullRequest oldest = mock(GHPullRequest.class);
+        when(githubService.getPullRequestsByUpdated(gitHub, REPOSITORY_FULL_NAME)).thenReturn(List.of(
+                createGHPullRequest(4, 12, "body"), createGHPullRequest(3, 11, "body"), older, oldest));
+
+        //when
+        int harvested = pullRequestHarvester.harvest(gitHub, REPOSITORY_FULL_NAME);
+
+        //then
+        PullRequestCursor cursor = pullRequestCursorRepository.findByRepositoryFullName(REPOSITORY_FULL_NAME)
+                .orElseThrow();
+        assertThat(harvested).isEqualTo(2);
+        assertThat(pullRequestRepository.findByRepositoryFullNameAndPrNumber(REPOSITORY_FULL_NAME, 2)).isEmpty();
+        assertThat(cursor.getLastPrNumber()).isEqualTo(4);
+        assertThat(cursor.getLastUpdatedAt()).isEqualTo(toUtc(12));
+        verifyNoInteractions(oldest);
+    }
+
+    @Test
+    @DisplayName("이미 수집한 PR의 본문이 수정되었다면, 다음 수집 때 수정된 본문으로 갱신한다.")
+    public void should_updateBody_when_pullRequestEdited() throws IOException {
+        //given
+        when(githubService.getPullRequestsByUpdated(gitHub, REPOSITORY_FULL_NAME))
+                .thenReturn(List.of(createGHPullRequest(1, 10, "before")));
+        pullRequestHarvester.harvest(gitHub, REPOSITORY_FULL_NAME);
+
+        when(githubService.getPullRequestsByUpdated(gitHub, REPOSITORY_FULL_NAME))
+                .thenReturn(List.of(createGHPullRequest(1, 20, "after")));
+
+        //when
+        pullRequestHarvester.harvest(gitHub, REPOSITORY_FULL_NAME);
+
+        //then
+        PullRequest pullRequest = pullRequestRepository
+                .findByRepositoryFullNameAndPrNumber(REPOSITORY_FULL_NAME, 1).orElseThrow();
+        assertThat(pullRequestRepository.count()).isEqualTo(1);
+        assertThat(pullRequest.getBody()).isEqualTo("after");
+        assertThat(pullRequest.getPrUpdatedAt()).isEqualTo(toUtc(20));
+    }
+
+    private GHPullRequest createGHPullRequest(int number, int updatedMinutes, String body) throws IOException {
+        GHUser author = mock(GHUser.class);
+        when(author.getLogin()).thenReturn("SSung023");
+
+        GHPullRequest ghPullRequest = mock(GHPullRequest.class);
+        when(ghPullRequest.getNumber()).thenReturn(number);
+        when(ghPullRequest.getUser()).thenReturn(author);
+        when(ghPullRequest.getTitle()).thenReturn("PR #" + number);
+        when(ghPullRequest.getBody()).thenReturn(body);
+        when(ghPullRequest.getHtmlUrl()).thenReturn(
+                new URL("https://github.com/" + REPOSITORY_FULL_NAME + "/pull/" + number));
+        when(ghPullRequest.getCreatedAt()).thenReturn(Date.from(BASE_TIME));
+        when(ghPullRequest.getUpdatedAt()).thenReturn(Date.from(BASE_TIME.plusSeconds(updatedMinutes * 60L)));
+        return ghPullRequest;
+    }
+
+    private LocalDateTime toUtc(int updatedMinutes) {
+        return LocalDateTime.ofInstant(BASE_TIME.plusSeconds(updatedMinutes * 60L), ZoneOffset.UTC);
+    }
+}
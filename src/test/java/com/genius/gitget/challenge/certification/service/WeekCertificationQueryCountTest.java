@@ -0,0 +1,92 @@
+package com.genius.gitget.challenge.certification.service;
+
+import static com.genius.gitget.challenge.user.domain.Role.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.dto.WeekResponse;
+import com.genius.gitget.challenge.certification.facade.CertificationFacade;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.certification.CertificationFactory;
+import com.genius.gitget.util.instance.InstanceFactory;
+import com.genius.gitget.util.participant.ParticipantFactory;
+import com.genius.gitget.util.user.UserFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class WeekCertificationQueryCountTest {
+    private static final int PARTICIPANT_COUNT = 20;
+
+    @Autowired
+    private CertificationFacade certificationFacade;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private InstanceRepository instanceRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private CertificationRepository certificationRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User viewer;
+    private Instance instance;
+
+    @BeforeEach
+    void setup() {
+        LocalDate today = LocalDate.now();
+        viewer = userRepository.save(UserFactory.createByInfo("viewer", USER));
+        instance = instanceRepository.save(InstanceFactory.createActivity(10));
+        participantRepository.save(ParticipantFactory.createProcessing(viewer, instance));
+
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            User user = userRepository.save(UserFactory.createByInfo("identifier" + i, USER));
+            Participant participant = participantRepository.save(
+                    ParticipantFactory.createProcessing(user, instance));
+            certificationRepository.save(CertificationFactory.createCertificated(participant, today));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("다른 참여자들의 주간 인증 내역 조회 시, 참여자 수와 상관없이 정해진 횟수의 쿼리만 실행되어야 한다.")
+    public void should_executeFixedQueries_when_inquiryOthersWeek() {
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Slice<WeekResponse> weekResponses = certificationFacade.getOthersWeekCertifications(
+                viewer.getId(), instance.getId(), LocalDate.now(), PageRequest.of(0, PARTICIPANT_COUNT + 1));
+
+        //then
+        // 참여자(사용자, 프로필, 인스턴스 fetch join) + 장착 프레임 + 주간 인증 내역
+        assertThat(weekResponses.getContent()).hasSize(PARTICIPANT_COUNT);
+        assertThat(weekResponses.getContent())
+                .allSatisfy(weekResponse -> assertThat(weekResponse.certifications()).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,99 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+class CachingGithubConnectorTest {
+    @TempDir
+    Path directory;
+
+    private final Deque<StubResponse> responses = new ArrayDeque<>();
+    private final List<GitHubConnectorRequest> sentRequests = new ArrayList<>();
+    private final GitHubConnector delegate = request -> {
+        sentRequests.add(request);
+        return responses.poll();
+    };
+    private CachingGithubConnector connector;
+    private GitHubConnectorRequest request;
+
+    @BeforeEach
+    void setup() throws IOException {
+        connector = new CachingGithubConnector(delegate, new GithubResponseStore(directory, 1024 * 1024));
+        request = mock(GitHubConnectorRequest.class);
+        when(request.url()).thenReturn(new URL("https://api.github.com/repos/owner/repo/pulls"));
+        when(request.header("Authorization")).thenReturn("token personal-key");
+        when(request.method()).thenReturn("GET");
+    }
+
+    @Test
+    @DisplayName("304 응답을 받으면 저장된 본문을 돌려주고, rate limit 헤더는 304 응답의 값으로 갱신한다.")
+    public void should_replayCachedBodyWithFreshRateLimit_when_notModified() throws IOException {
+        //given
+        responses.add(new StubResponse(request, 200, Map.of(
+                "ETag", List.of("\"etag-value\""),
+                "X-RateLimit-Remaining", List.of("4999")), "[{\"number\":1}]"));
+        responses.add(new StubResponse(request, 304, Map.of(
+                "X-RateLimit-Remaining", List.of("4998")), ""));
+        connector.send(request).close();
+
+        //when
+        GitHubConnectorResponse response = connector.send(request);
+
+        //then
+        assertThat(sentRequests).hasSize(2);
+        assertThat(sentRequests.get(1).header("If-None-Match")).isEqualTo("\"etag-value\"");
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.header("X-RateLimit-Remaining")).isEqualTo("4998");
+        assertThat(response.header("ETag")).isEqualTo("\"etag-value\"");
+        assertThat(new String(response.bodyStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"number\":1}]");
+        assertThat(connector.getHitCount()).isEqualTo(1);
+        assertThat(connector.getMissCount()).isEqualTo(1);
+    }
+
+    private static class StubResponse extends GitHubConnectorResponse {
+        private final byte[] body;
+
+        private StubResponse(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers,
+                             String body) {
+            super(request, statusCode, caseInsensitive(headers));
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static Map<String, List<String>> caseInsensitive(Map<String, List<String>> headers) {
+            Map<String, List<String>> copied = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            copied.putAll(headers);
+            return copied;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.genius.gitget.challenge.certification.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -136,4 +138,24 @@ class DateUtilTest {
         assertThat(weekStartDate).isEqualTo(LocalDate.of(2024, 3, 18));
         assertThat(weekStartDate.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
     }
+
+    @Test
+    @DisplayName("epoch second를 KST 일자로 변환한 결과는 ZonedDateTime으로 변환한 결과와 같아야 한다.")
+    public void should_equalToZonedDateTime_when_convertEpochSecond() {
+        //given
+        Instant[] instants = {
+                Instant.parse("2024-02-15T14:59:59Z"),
+                Instant.parse("2024-02-15T15:00:00Z"),
+                Instant.parse("1987-05-10T00:00:00Z"),
+                Instant.parse("1969-12-31T23:59:59Z")
+        };
+
+        for (Instant instant : instants) {
+            //when
+            LocalDate converted = DateUtil.convertToKST(Date.from(instant));
+
+            //then
+            assertThat(converted).isEqualTo(instant.atZone(ZoneId.of("Asia/Seoul")).toLocalDate());
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.genius.gitget.challenge.certification.util;
 
+import java.util.Base64;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -28,4 +29,44 @@ class EncryptUtilTest {
         //then
         Assertions.assertThat(decrypted).isEqualTo(target);
     }
+
+    @Test
+    @DisplayName("암호문은 버전 prefix가 붙은 Base64 형식으로 저장된다.")
+    public void should_encodeWithVersionPrefix_when_encrypt() {
+        //given
+        String target = "target token";
+
+        //when
+        String encrypted = encryptUtil.encrypt(target);
+
+        //then
+        Assertions.assertThat(encrypted).startsWith(EncryptUtil.VERSION_PREFIX);
+        Assertions.assertThat(EncryptUtil.isLegacy(encrypted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 형식의 암호문도 복호화할 수 있으며, 새 형식으로 변환한 뒤에도 같은 값으로 복호화된다.")
+    public void should_decryptLegacy_when_passLegacyFormat() {
+        //given
+        String target = "target token";
+        String legacy = toLegacyFormat(encryptUtil.encrypt(target));
+
+        //when
+        String reencoded = EncryptUtil.reencode(legacy);
+
+        //then
+        Assertions.assertThat(EncryptUtil.isLegacy(legacy)).isTrue();
+        Assertions.assertThat(encryptUtil.decrypt(legacy)).isEqualTo(target);
+        Assertions.assertThat(encryptUtil.decrypt(reencoded)).isEqualTo(target);
+    }
+
+    private String toLegacyFormat(String encrypted) {
+        byte[] bytes = Base64.getDecoder().decode(encrypted.substring(EncryptUtil.VERSION_PREFIX.length()));
+        StringBuilder builder = new StringBuilder();
+        for (byte aByte : bytes) {
+            builder.append(aByte);
+            builder.append(" ");
+        }
+        return builder.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.genius.gitget.global.util.exception.BusinessException;
+import com.genius.gitget.global.util.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+class GithubCallSchedulerTest {
+    private final Deque<StubResponse> responses = new ArrayDeque<>();
+    private final AtomicInteger sentCount = new AtomicInteger();
+    private final GitHubConnector delegate = request -> {
+        sentCount.incrementAndGet();
+        return responses.poll();
+    };
+    private final GithubCallScheduler scheduler = new GithubCallScheduler(
+            delegate, 50, 2, Duration.ofSeconds(1), Duration.ofMillis(10), 3);
+    private GitHubConnectorRequest request;
+
+    @BeforeEach
+    void setup() throws IOException {
+        request = mock(GitHubConnectorRequest.class);
+        when(request.url()).thenReturn(new URL("https://api.github.com/repos/owner/repo/pulls"));
+        when(request.header("Authorization")).thenReturn("token personal-key");
+        when(request.method()).thenReturn("GET");
+    }
+
+    @Test
+    @DisplayName("rate limit과 관계없는 403 응답은 재시도하지 않고 본문과 함께 그대로 반환한다.")
+    public void should_notRetry_when_permissionDenied() throws IOException {
+        //given
+        responses.add(new StubResponse(request, 403, Map.of(), "Resource not accessible by integration"));
+
+        //when
+        GitHubConnectorResponse response = scheduler.send(request);
+
+        //then
+        assertThat(sentCount.get()).isEqualTo(1);
+        assertThat(response.statusCode()).isEqualTo(403);
+        assertThat(new String(response.bodyStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("Resource not accessible by integration");
+        assertThat(scheduler.getTotalWaitMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("secondary rate limit 응답을 받으면 backoff 후 재시도한다.")
+    public void should_retryWithBackoff_when_secondaryRateLimited() throws IOException {
+        //given
+        responses.add(new StubResponse(request, 403, Map.of(),
+                "You have exceeded a secondary rate limit. Please wait a few minutes before you try again."));
+        responses.add(new StubResponse(request, 200, Map.of(), "[]"));
+
+        //when
+        GitHubConnectorResponse response = scheduler.send(request);
+
+        //then
+        assertThat(sentCount.get()).isEqualTo(2);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(scheduler.getTotalWaitMillis()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("요청 한도를 모두 사용했고 reset까지 최대 대기 시간보다 오래 남았다면 GITHUB_RATE_LIMITED 예외가 발생한다.")
+    public void should_throwRateLimited_when_budgetExhausted() {
+        //given
+        long resetEpochSecond = System.currentTimeMillis() / 1000 + 3600;
+        responses.add(new StubResponse(request, 403, Map.of(
+                "X-RateLimit-Remaining", List.of("0"),
+                "X-RateLimit-Reset", List.of(String.valueOf(resetEpochSecond))), "API rate limit exceeded"));
+
+        //when & then
+        assertThatThrownBy(() -> scheduler.send(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.GITHUB_RATE_LIMITED.getMessage());
+        assertThat(sentCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔여 요청 수가 예약분 이하여도 0이 아니라면, reset까지 오래 남았더라도 실패하지 않고 요청을 보낸다.")
+    public void should_sendRequest_when_remainingWithinReserveButNotExhausted() throws IOException {
+        //given
+        long resetEpochSecond = System.currentTimeMillis() / 1000 + 3600;
+        Map<String, List<String>> headers = Map.of(
+                "X-RateLimit-Remaining", List.of("10"),
+                "X-RateLimit-Reset", List.of(String.valueOf(resetEpochSecond)));
+        responses.add(new StubResponse(request, 200, headers, "[]"));
+        responses.add(new StubResponse(request, 200, headers, "[]"));
+        scheduler.send(request);
+
+        //when
+        GitHubConnectorResponse response = scheduler.send(request);
+
+        //then
+        assertThat(sentCount.get()).isEqualTo(2);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(scheduler.getTotalWaitMillis()).isZero();
+    }
+
+    private static class StubResponse extends GitHubConnectorResponse {
+        private final byte[] body;
+
+        private StubResponse(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers,
+                             String body) {
+            super(request, statusCode, caseInsensitive(headers));
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static Map<String, List<String>> caseInsensitive(Map<String, List<String>> headers) {
+            Map<String, List<String>> copied = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            copied.putAll(headers);
+            return copied;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
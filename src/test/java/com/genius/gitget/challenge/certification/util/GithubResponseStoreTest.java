@@ -0,0 +1,55 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.util.GithubResponseStore.CachedResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GithubResponseStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 응답은 저장소를 다시 생성해도 ETag와 본문을 그대로 읽을 수 있다.")
+    public void should_readResponse_when_storeReopened() {
+        //given
+        GithubResponseStore store = new GithubResponseStore(directory, 1024 * 1024);
+        store.save("key", response("\"etag-value\"", "{\"id\":1}"));
+
+        //when
+        Optional<CachedResponse> found = new GithubResponseStore(directory, 1024 * 1024).find("key");
+
+        //then
+        assertThat(found).isPresent();
+        assertThat(found.get().header("etag")).contains("\"etag-value\"");
+        assertThat(new String(found.get().body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("저장된 응답의 전체 크기가 최대 크기를 넘으면 오래된 응답부터 삭제한다.")
+    public void should_evictResponse_when_maxSizeExceeded() {
+        //given
+        GithubResponseStore store = new GithubResponseStore(directory, 300);
+        String body = "a".repeat(100);
+
+        //when
+        store.save("first", response("\"1\"", body));
+        store.save("second", response("\"2\"", body));
+        store.save("third", response("\"3\"", body));
+
+        //then
+        assertThat(store.getTotalBytes()).isLessThanOrEqualTo(300);
+        assertThat(store.size()).isLessThan(3);
+    }
+
+    private CachedResponse response(String etag, String body) {
+        return new CachedResponse(Map.of("ETag", List.of(etag)), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
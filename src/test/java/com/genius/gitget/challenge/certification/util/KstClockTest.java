@@ -0,0 +1,33 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KstClockTest {
+
+    @Test
+    @DisplayName("UTC 기준 15시 이전이라면 같은 날짜를, 15시부터는 다음 날짜를 KST 오늘 일자로 반환한다.")
+    public void should_returnKstDate_when_passFixedClock() {
+        //given
+        KstClock beforeMidnight = new KstClock(
+                Clock.fixed(Instant.parse("2024-02-15T14:59:59Z"), ZoneOffset.UTC));
+        KstClock afterMidnight = new KstClock(
+                Clock.fixed(Instant.parse("2024-02-15T15:00:00Z"), ZoneOffset.UTC));
+
+        //when
+        LocalDate before = beforeMidnight.today();
+        LocalDate after = afterMidnight.today();
+
+        //then
+        assertThat(before).isEqualTo(LocalDate.of(2024, 2, 15));
+        assertThat(after).isEqualTo(LocalDate.of(2024, 2, 16));
+        assertThat(afterMidnight.now()).isEqualTo(LocalDateTime.of(2024, 2, 16, 0, 0));
+    }
+}
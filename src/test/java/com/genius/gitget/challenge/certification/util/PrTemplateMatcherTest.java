@@ -0,0 +1,87 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrTemplateMatcherTest {
+    private static final String FIRST = "GITGET-3f2504e0-4f89-11d3-9a0c-0305e82c3301-20240205";
+    private static final String SECOND = "GITGET-6ba7b810-9dad-11d1-80b4-00c04fd430c8-20240205";
+    private static final String THIRD = "GITGET-6ba7b810-9dad-11d1-80b4-00c04fd430c8-20240206";
+
+    @Test
+    @DisplayName("본문에 포함된 모든 템플릿의 key를 한 번의 순회로 찾을 수 있다.")
+    public void should_returnAllKeys_when_bodyContainsTemplates() {
+        //given
+        PrTemplateMatcher<Long> matcher = PrTemplateMatcher.of(templates());
+        String body = "## 오늘의 풀이\n" + SECOND + "\n백준 1260 DFS와 BFS\n" + FIRST;
+
+        //when
+        Set<Long> matched = matcher.match(body);
+
+        //then
+        assertThat(matched).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("공통 접두사를 공유하는 템플릿도 날짜가 다르다면 구분해야 한다.")
+    public void should_distinguishTemplates_when_prefixShared() {
+        //given
+        PrTemplateMatcher<Long> matcher = PrTemplateMatcher.of(templates());
+
+        //when
+        Set<Long> matched = matcher.match("GITGET-6ba7b810-9dad-11d1-80b4-00c04fd430c8-2024020" + THIRD);
+
+        //then
+        assertThat(matched).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("본문이 없거나 템플릿이 포함되지 않았다면 빈 결과를 반환해야 한다.")
+    public void should_returnEmpty_when_templateNotContained() {
+        //given
+        PrTemplateMatcher<Long> matcher = PrTemplateMatcher.of(templates());
+
+        //when & then
+        assertThat(matcher.match(null)).isEmpty();
+        assertThat(matcher.match("GITGET- 인증 템플릿을 깜빡했습니다 🙏")).isEmpty();
+        assertThat(matcher.match(FIRST.substring(0, FIRST.length() - 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("각 항목을 템플릿 key별로 묶을 수 있다.")
+    public void should_groupItems_when_matchAll() {
+        //given
+        PrTemplateMatcher<Long> matcher = PrTemplateMatcher.of(templates());
+        List<String> bodies = List.of(FIRST, "no template", FIRST + " " + THIRD);
+
+        //when
+        Map<Long, List<String>> grouped = matcher.matchAll(bodies, body -> body);
+
+        //then
+        assertThat(grouped.get(1L)).containsExactly(FIRST, FIRST + " " + THIRD);
+        assertThat(grouped.get(3L)).containsExactly(FIRST + " " + THIRD);
+        assertThat(grouped).doesNotContainKey(2L);
+    }
+
+    @Test
+    @DisplayName("ASCII 외의 문자가 포함된 템플릿은 등록할 수 없다.")
+    public void should_throwException_when_templateNotAscii() {
+        assertThatThrownBy(() -> PrTemplateMatcher.of(Map.of(1L, "GITGET-인증")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<Long, String> templates() {
+        Map<Long, String> templates = new LinkedHashMap<>();
+        templates.put(1L, FIRST);
+        templates.put(2L, SECOND);
+        templates.put(3L, THIRD);
+        return templates;
+    }
+}
@@ -0,0 +1,53 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PullRequestUrlTest {
+
+    @Test
+    @DisplayName("GitHub PR 링크에서 레포지토리 이름과 PR 번호를 추출할 수 있다.")
+    public void should_parseRepositoryAndNumber_when_passPullRequestUrl() {
+        //given
+        String url = "https://github.com/SSung023/GitGet/pull/123";
+
+        //when
+        PullRequestUrl pullRequestUrl = PullRequestUrl.parse(url);
+
+        //then
+        assertThat(pullRequestUrl.isPullRequest()).isTrue();
+        assertThat(pullRequestUrl.repositoryFullName()).isEqualTo("SSung023/GitGet");
+        assertThat(pullRequestUrl.prNumber()).isEqualTo(123);
+    }
+
+    @Test
+    @DisplayName("PR 형식이 아닌 링크는 레포지토리 이름과 PR 번호 없이 링크만 가진다.")
+    public void should_keepUrlOnly_when_passInvalidUrl() {
+        //given
+        String url = "pr link1";
+
+        //when
+        PullRequestUrl pullRequestUrl = PullRequestUrl.parse(url);
+
+        //then
+        assertThat(pullRequestUrl.isPullRequest()).isFalse();
+        assertThat(pullRequestUrl.url()).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("쉼표로 이어 붙인 인증 링크 문자열을 빈 항목 없이 분리할 수 있다.")
+    public void should_splitLinks_when_passJoinedLinks() {
+        //given
+        String joined = "https://github.com/a/b/pull/1,https://github.com/a/b/pull/2,";
+
+        //when
+        List<String> links = PullRequestUrl.splitLinks(joined);
+
+        //then
+        assertThat(links).containsExactly("https://github.com/a/b/pull/1", "https://github.com/a/b/pull/2");
+        assertThat(PullRequestUrl.splitLinks("")).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.genius.gitget.challenge.certification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genius.gitget.challenge.certification.domain.PullRequest;
+import com.genius.gitget.challenge.certification.dto.github.PullRequestEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WebhookSignatureTest {
+    private static final String SECRET = "webhook-secret";
+    private byte[] payload;
+
+    @BeforeEach
+    void setup() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/github/pull_request_opened.json")) {
+            payload = inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 secret으로 서명한 payload는 검증에 성공해야 한다.")
+    public void should_returnTrue_when_signedWithSameSecret() {
+        //given
+        String signature = WebhookSignature.sign(SECRET, payload);
+
+        //when
+        boolean isValid = WebhookSignature.isValid(SECRET, payload, signature);
+
+        //then
+        assertThat(signature).startsWith("sha256=");
+        assertThat(isValid).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 secret으로 서명했거나 payload가 변조되었다면 검증에 실패해야 한다.")
+    public void should_returnFalse_when_signatureNotMatched() {
+        //given
+        String signature = WebhookSignature.sign("other-secret", payload);
+        byte[] tampered = new String(payload).replace("opened", "closed").getBytes();
+
+        //when & then
+        assertThat(WebhookSignature.isValid(SECRET, payload, signature)).isFalse();
+        assertThat(WebhookSignature.isValid(SECRET, tampered, WebhookSignature.sign(SECRET, payload))).isFalse();
+    }
+
+    @Test
+    @DisplayName("secret이 설정되지 않았거나 서명 헤더가 없다면 검증에 실패해야 한다.")
+    public void should_returnFalse_when_secretOrSignatureMissing() {
+        //given
+        String signature = WebhookSignature.sign(SECRET, payload);
+
+        //when & then
+        assertThat(WebhookSignature.isValid("", payload, signature)).isFalse();
+        assertThat(WebhookSignature.isValid(SECRET, payload, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록된 pull_request payload를 해석하면 PR 정보와 KST 기준 생성일을 얻을 수 있다.")
+    public void should_parsePullRequest_when_payloadRecorded() throws IOException {
+        //given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        //when
+        PullRequestEvent event = PullRequestEvent.from(objectMapper.readTree(payload));
+        PullRequest pullRequest = event.toEntity();
+
+        //then
+        assertThat(event.action()).isEqualTo("opened");
+        assertThat(event.repositoryName()).isEqualTo("gitget-challenge");
+        assertThat(pullRequest.getRepositoryFullName()).isEqualTo("octocat/gitget-challenge");
+        assertThat(pullRequest.getPrNumber()).isEqualTo(12);
+        assertThat(pullRequest.getAuthorLogin()).isEqualTo("octocat");
+        assertThat(pullRequest.getCreatedKstDate()).isEqualTo(LocalDate.of(2024, 2, 5));
+        assertThat(pullRequest.containsTemplate("GITGET-3f2504e0-4f89-11d3-9a0c-0305e82c3301-20240205")).isTrue();
+    }
+}
@@ -21,6 +21,7 @@ import com.genius.gitget.challenge.user.repository.UserRepository;
 import com.genius.gitget.global.security.constants.ProviderInfo;
 import com.genius.gitget.global.util.exception.BusinessException;
 import com.genius.gitget.global.util.exception.ErrorCode;
+import com.genius.gitget.schedule.dto.ProgressChunk;
 import com.genius.gitget.schedule.service.ProgressService;
 import java.time.LocalDate;
 import java.util.List;
@@ -97,7 +98,7 @@ class ProgressServiceTest {
         //then
         assertThat(preActivities.size()).isEqualTo(3);
         assertThat(activities.size()).isEqualTo(3);
-        assertThat(participant1.getJoinResult()).isEqualTo(JoinResult.PROCESSING);
+        assertThat(getJoinResult(participant1)).isEqualTo(JoinResult.PROCESSING);
     }
 
     @Test
@@ -136,7 +137,32 @@ class ProgressServiceTest {
         //then
         assertThat(preActivities.size()).isEqualTo(3);
         assertThat(activities.size()).isEqualTo(3);
-        assertThat(participant1.getJoinResult()).isEqualTo(JoinResult.PROCESSING);
+        assertThat(getJoinResult(participant1)).isEqualTo(JoinResult.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("묶음 단위로 ACTIVITY 상태로 바꿀 때, 기간에 해당하지 않는 인스턴스는 DB 조건으로 제외된다.")
+    public void should_skipInstances_when_outOfPeriod() {
+        //given
+        LocalDate currentDate = LocalDate.of(2024, 3, 6);
+
+        Instance target = getSavedInstance(LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 30));
+        Instance notStarted = getSavedInstance(LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 30));
+        Instance lastDay = getSavedInstance(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 6));
+
+        //when
+        ProgressChunk chunk = scheduleService.updateToActivity(currentDate, 0L, 10);
+
+        //then
+        assertThat(chunk.transitioned()).isEqualTo(1);
+        assertThat(chunk.lastId()).isEqualTo(target.getId());
+        assertThat(chunk.hasNext()).isFalse();
+        assertThat(instanceRepository.findById(notStarted.getId()).orElseThrow().getProgress())
+                .isEqualTo(Progress.PREACTIVITY);
+        assertThat(instanceRepository.findById(lastDay.getId()).orElseThrow().getProgress())
+                .isEqualTo(Progress.PREACTIVITY);
+        assertThat(instanceRepository.findById(target.getId()).orElseThrow().getProgress())
+                .isEqualTo(Progress.ACTIVITY);
     }
 
     @Test
@@ -184,7 +210,7 @@ class ProgressServiceTest {
         //then
         List<Instance> done = instanceRepository.findAllByProgress(Progress.DONE);
         assertThat(done.size()).isEqualTo(3);
-        assertThat(participant1.getJoinResult()).isEqualTo(JoinResult.SUCCESS);
+        assertThat(getJoinResult(participant1)).isEqualTo(JoinResult.SUCCESS);
     }
 
     @Test
@@ -210,7 +236,13 @@ class ProgressServiceTest {
         //then
         List<Instance> done = instanceRepository.findAllByProgress(Progress.DONE);
         assertThat(done.size()).isEqualTo(3);
-        assertThat(participant1.getJoinResult()).isEqualTo(JoinResult.FAIL);
+        assertThat(getJoinResult(participant1)).isEqualTo(JoinResult.FAIL);
+    }
+
+    private JoinResult getJoinResult(Participant participant) {
+        return participantRepository.findById(participant.getId())
+                .map(Participant::getJoinResult)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PARTICIPANT_NOT_FOUND));
     }
 
     private Instance getSavedInstance(LocalDate startedDate, LocalDate completedDate) {
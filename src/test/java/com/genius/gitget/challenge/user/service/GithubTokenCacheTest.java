@@ -0,0 +1,125 @@
+package com.genius.gitget.challenge.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.user.dto.GithubTokenCacheStats;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GithubTokenCacheTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-02-15T00:00:00Z"));
+    private final GithubTokenCache cache = new GithubTokenCache(Duration.ofMinutes(10), 2, true, clock);
+    private final AtomicInteger decryptCount = new AtomicInteger();
+    private final UnaryOperator<String> decryptor = encrypted -> {
+        decryptCount.incrementAndGet();
+        return "decrypted-" + encrypted;
+    };
+
+    @Test
+    @DisplayName("같은 사용자, 같은 암호문이라면 복호화하지 않고 캐시된 토큰을 반환한다.")
+    public void should_reuseToken_when_ciphertextNotChanged() {
+        //given
+        cache.getOrDecrypt(1L, "encrypted", decryptor);
+
+        //when
+        String token = cache.getOrDecrypt(1L, "encrypted", decryptor);
+
+        //then
+        GithubTokenCacheStats stats = cache.getStats();
+        assertThat(token).isEqualTo("decrypted-encrypted");
+        assertThat(decryptCount.get()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("암호문이 바뀌거나 캐시가 무효화되면 다시 복호화한다.")
+    public void should_decryptAgain_when_ciphertextChangedOrInvalidated() {
+        //given
+        cache.getOrDecrypt(1L, "encrypted", decryptor);
+
+        //when
+        String renewed = cache.getOrDecrypt(1L, "re-encrypted", decryptor);
+        cache.invalidate(1L);
+        cache.getOrDecrypt(1L, "re-encrypted", decryptor);
+
+        //then
+        assertThat(renewed).isEqualTo("decrypted-re-encrypted");
+        assertThat(decryptCount.get()).isEqualTo(3);
+        assertThat(cache.getStats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나거나 최대 크기를 넘으면 토큰이 제거된다.")
+    public void should_evictToken_when_expiredOrOverflow() {
+        //given
+        cache.getOrDecrypt(1L, "first", decryptor);
+        clock.advance(Duration.ofMinutes(1));
+        cache.getOrDecrypt(2L, "second", decryptor);
+
+        //when
+        cache.getOrDecrypt(3L, "third", decryptor);
+        clock.advance(Duration.ofMinutes(11));
+        cache.evictExpired();
+
+        //then
+        GithubTokenCacheStats stats = cache.getStats();
+        assertThat(stats.cachedTokens()).isZero();
+        assertThat(stats.evictionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료 시각이 이른 토큰부터 최대 크기의 90%까지 한 번에 제거한다.")
+    public void should_evictToLowWaterMark_when_overflow() {
+        //given
+        GithubTokenCache largeCache = new GithubTokenCache(Duration.ofMinutes(10), 20, true, clock);
+        for (long userId = 1; userId <= 20; userId++) {
+            largeCache.getOrDecrypt(userId, "token-" + userId, decryptor);
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        //when
+        largeCache.getOrDecrypt(21L, "token-21", decryptor);
+        largeCache.getOrDecrypt(3L, "token-3", decryptor);
+
+        //then
+        GithubTokenCacheStats stats = largeCache.getStats();
+        assertThat(stats.evictionCount()).isEqualTo(2);
+        assertThat(stats.cachedTokens()).isEqualTo(19);
+        assertThat(stats.hitCount()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            this.instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.domain.CertificationCalendar;
+import com.genius.gitget.challenge.certification.repository.CertificationCalendarRepository;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.challenge.user.domain.Role;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.certification.CertificationFactory;
+import com.genius.gitget.util.instance.InstanceFactory;
+import com.genius.gitget.util.participant.ParticipantFactory;
+import com.genius.gitget.util.user.UserFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class CalendarReconcileServiceTest {
+    @Autowired
+    private CalendarReconcileService calendarReconcileService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private InstanceRepository instanceRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private CertificationRepository certificationRepository;
+    @Autowired
+    private CertificationCalendarRepository certificationCalendarRepository;
+
+    @Test
+    @DisplayName("인증 기록과 어긋난 인증 달력만 인증 기록 기준으로 복구한다.")
+    public void should_repairCalendar_when_calendarDrifted() {
+        //given
+        LocalDate startedDate = LocalDate.of(2024, 3, 1);
+        Instance instance = instanceRepository.save(InstanceFactory.createByInfo(startedDate, Progress.ACTIVITY));
+        Participant drifted = participantRepository.save(ParticipantFactory.createProcessing(
+                userRepository.save(UserFactory.createByInfo("drifted", Role.USER)), instance));
+        Participant consistent = participantRepository.save(ParticipantFactory.createProcessing(
+                userRepository.save(UserFactory.createByInfo("consistent", Role.USER)), instance));
+
+        List<Certification> driftedCertifications = certificationRepository.saveAll(List.of(
+                CertificationFactory.createCertificated(drifted, startedDate),
+                CertificationFactory.createPassed(drifted, startedDate.plusDays(1))));
+        List<Certification> consistentCertifications = certificationRepository.saveAll(List.of(
+                CertificationFactory.createCertificated(consistent, startedDate)));
+
+        // 두 번째 인증이 반영되지 않은 달력
+        CertificationCalendar driftedCalendar = new CertificationCalendar(drifted.getId());
+        driftedCalendar.mark(1, CertificateStatus.CERTIFICATED);
+        certificationCalendarRepository.save(driftedCalendar);
+        certificationCalendarRepository.save(CertificationCalendar.of(consistent.getId(), consistentCertifications));
+
+        //when
+        int repaired = calendarReconcileService.run();
+
+        //then
+        CertificationCalendar calendar = certificationCalendarRepository.findByParticipantId(drifted.getId())
+                .orElseThrow();
+        assertThat(repaired).isEqualTo(1);
+        assertThat(calendar.getCertificatedCount()).isEqualTo(1);
+        assertThat(calendar.getPassedCount()).isEqualTo(1);
+        assertThat(calendar.getLastAttempt()).isEqualTo(2);
+        assertThat(calendar.get(2)).isEqualTo(CertificateStatus.PASSED);
+        assertThat(calendar.reconcile(driftedCertifications)).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import com.genius.gitget.challenge.certification.service.CertificationService;
+import com.genius.gitget.challenge.certification.service.GithubService;
+import com.genius.gitget.challenge.certification.service.PullRequestHarvester;
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.certification.util.PrTemplateMatcher;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.service.ParticipantService;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CertificationSweepServiceTest {
+    private final LocalDate kstDate = LocalDate.of(2024, 3, 5);
+    private final InstanceRepository instanceRepository = mock(InstanceRepository.class);
+    private final ParticipantService participantService = mock(ParticipantService.class);
+    private final GithubService githubService = mock(GithubService.class);
+    private final PullRequestHarvester pullRequestHarvester = mock(PullRequestHarvester.class);
+    private final CertificationService certificationService = mock(CertificationService.class);
+    private final ScheduleLeaseService scheduleLeaseService = mock(ScheduleLeaseService.class);
+    private final CertificationSweepService certificationSweepService = new CertificationSweepService(
+            instanceRepository, participantService, githubService, pullRequestHarvester, certificationService,
+            new KstClock(Clock.fixed(Instant.parse("2024-03-05T00:00:00Z"), ZoneOffset.UTC)),
+            scheduleLeaseService, 2, Duration.ofMinutes(25));
+
+    @AfterEach
+    void shutdown() {
+        certificationSweepService.shutdown();
+    }
+
+    @Test
+    @DisplayName("당일 이미 인증된 참여자는 PR을 조회하지 않고, 인증되지 않은 참여자만 조회하여 인증 정보를 갱신한다.")
+    public void should_skipCertifiedParticipants_when_sweep() {
+        //given
+        Instance instance = createInstance();
+        Participant notYet = createParticipant(1L, "notYet");
+        Participant certificated = createParticipant(2L, "certificated");
+        Participant passed = createParticipant(3L, "passed");
+
+        when(scheduleLeaseService.tryAcquire(eq(CertificationSweepService.SWEEP_LEASE), any()))
+                .thenReturn(Optional.of(new AcquiredLease(CertificationSweepService.SWEEP_LEASE, "owner",
+                        null, null, null)));
+        when(instanceRepository.findAllByProgress(Progress.ACTIVITY)).thenReturn(List.of(instance));
+        when(participantService.findJoinedWithUser(instance.getId()))
+                .thenReturn(List.of(notYet, certificated, passed));
+        when(certificationService.findStatusByDate(kstDate, List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, CertificateStatus.NOT_YET,
+                2L, CertificateStatus.CERTIFICATED,
+                3L, CertificateStatus.PASSED));
+        Map<Participant, List<String>> harvested = Map.of(notYet, List.of("https://github.com/o/r/pull/1"));
+        doReturn(harvested).when(pullRequestHarvester)
+                .findValidPullRequests(any(), eq("notYet"), eq(kstDate), any(PrTemplateMatcher.class));
+
+        //when
+        certificationSweepService.run();
+
+        //then
+        verify(pullRequestHarvester, times(1))
+                .findValidPullRequests(any(), any(), any(), any(PrTemplateMatcher.class));
+        verify(certificationService).certifyAll(kstDate, harvested);
+        verify(scheduleLeaseService).complete(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lease를 가지고 있다면 인증 일괄 확인을 건너뛴다.")
+    public void should_skip_when_leaseHeldByOther() {
+        //given
+        when(scheduleLeaseService.tryAcquire(eq(CertificationSweepService.SWEEP_LEASE), any()))
+                .thenReturn(Optional.empty());
+
+        //when
+        certificationSweepService.run();
+
+        //then
+        verify(instanceRepository, never()).findAllByProgress(any());
+        verify(certificationService, never()).certifyAll(any(), any());
+    }
+
+    private Instance createInstance() {
+        Instance instance = mock(Instance.class);
+        when(instance.getId()).thenReturn(10L);
+        when(instance.getPrTemplate(kstDate)).thenReturn("GITGET-uuid-20240305");
+        return instance;
+    }
+
+    private Participant createParticipant(Long id, String repositoryName) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        Participant participant = mock(Participant.class);
+        when(participant.getId()).thenReturn(id);
+        when(participant.getUser()).thenReturn(user);
+        when(participant.getRepositoryName()).thenReturn(repositoryName);
+        return participant;
+    }
+}
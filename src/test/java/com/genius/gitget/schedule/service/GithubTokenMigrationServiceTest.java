@@ -0,0 +1,110 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.util.EncryptUtil;
+import com.genius.gitget.challenge.user.domain.Role;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.user.UserFactory;
+import java.time.Duration;
+import java.util.Base64;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class GithubTokenMigrationServiceTest {
+    @Autowired
+    private GithubTokenMigrationService githubTokenMigrationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EncryptUtil encryptUtil;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ScheduleLeaseService scheduleLeaseService;
+
+    @Test
+    @DisplayName("이전 형식으로 저장된 토큰만 새 형식으로 옮기고, 새 형식 토큰은 그대로 둔다.")
+    public void should_migrateOnlyLegacyTokens_when_run() {
+        //given
+        String firstLegacy = toLegacyFormat(encryptUtil.encrypt("first-token"));
+        String secondLegacy = toLegacyFormat(encryptUtil.encrypt("second-token"));
+        String current = encryptUtil.encrypt("current-token");
+
+        User first = saveUser("legacy-first", firstLegacy);
+        User second = saveUser("legacy-second", secondLegacy);
+        User renewed = saveUser("renewed", current);
+
+        //when
+        int migrated = githubTokenMigrationService.run();
+        int migratedAgain = githubTokenMigrationService.run();
+
+        //then
+        assertThat(migrated).isEqualTo(2);
+        assertThat(migratedAgain).isZero();
+        assertThat(findGithubToken(first)).isEqualTo(EncryptUtil.reencode(firstLegacy));
+        assertThat(findGithubToken(second)).isEqualTo(EncryptUtil.reencode(secondLegacy));
+        assertThat(findGithubToken(renewed)).isEqualTo(current);
+        assertThat(encryptUtil.decrypt(findGithubToken(first))).isEqualTo("first-token");
+    }
+
+    @Test
+    @DisplayName("조회 이후 토큰이 이전 형식으로 다시 등록되었다면, 다시 등록된 토큰을 덮어쓰지 않는다.")
+    public void should_keepReregisteredToken_when_tokenChangedAfterSelect() {
+        //given
+        String legacy = toLegacyFormat(encryptUtil.encrypt("old-token"));
+        String reregistered = toLegacyFormat(encryptUtil.encrypt("reregistered-token"));
+        User user = saveUser("reregistered", legacy);
+
+        JdbcTemplate racingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) throws DataAccessException {
+                super.query(sql, rch, args);
+                update("UPDATE users SET github_token = ? WHERE user_id = ? AND github_token = ?",
+                        reregistered, user.getId(), legacy);
+            }
+        };
+        GithubTokenMigrationService racingService = new GithubTokenMigrationService(
+                racingTemplate, scheduleLeaseService, true, 500, Duration.ofMinutes(30));
+
+        //when
+        int migrated = racingService.run();
+
+        //then
+        assertThat(migrated).isZero();
+        assertThat(findGithubToken(user)).isEqualTo(reregistered);
+    }
+
+    private User saveUser(String identifier, String githubToken) {
+        User user = UserFactory.createByInfo(identifier, Role.USER);
+        user.updateGithubPersonalToken(githubToken);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private String findGithubToken(User user) {
+        return jdbcTemplate.queryForObject("SELECT github_token FROM users WHERE user_id = ?",
+                String.class, user.getId());
+    }
+
+    private String toLegacyFormat(String encrypted) {
+        byte[] bytes = Base64.getDecoder().decode(encrypted.substring(EncryptUtil.VERSION_PREFIX.length()));
+        StringBuilder builder = new StringBuilder();
+        for (byte aByte : bytes) {
+            builder.append(aByte);
+            builder.append(" ");
+        }
+        return builder.toString();
+    }
+}
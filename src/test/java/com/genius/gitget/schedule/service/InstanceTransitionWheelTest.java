@@ -0,0 +1,79 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.util.KstClock;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.schedule.dto.InstanceSchedule;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InstanceTransitionWheelTest {
+    // KST 2024-03-01
+    private final InstanceTransitionWheel wheel = new InstanceTransitionWheel(
+            new KstClock(Clock.fixed(Instant.parse("2024-03-01T00:00:00Z"), ZoneOffset.UTC)));
+
+    @Test
+    @DisplayName("전환 시점이 된 인스턴스만 목표 상태별로 꺼낼 수 있다.")
+    public void should_pollOnlyDueInstances_when_dateArrives() {
+        //given
+        wheel.rebuild(List.of(
+                getSchedule(1L, Progress.PREACTIVITY, LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 30)),
+                getSchedule(2L, Progress.PREACTIVITY, LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 30)),
+                getSchedule(3L, Progress.ACTIVITY, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 4))
+        ));
+
+        //when
+        Map<Progress, List<Long>> due = wheel.pollDue(LocalDate.of(2024, 3, 5));
+
+        //then
+        assertThat(due.get(Progress.ACTIVITY)).containsExactly(1L);
+        assertThat(due.get(Progress.DONE)).containsExactly(3L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.hasDue(LocalDate.of(2024, 3, 9))).isFalse();
+        assertThat(wheel.hasDue(LocalDate.of(2024, 3, 10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("인스턴스의 기간이 바뀌면 이전 전환 시점은 제거되고, 삭제된 인스턴스는 꺼내지지 않는다.")
+    public void should_replaceTransition_when_scheduleAgain() {
+        //given
+        wheel.schedule(getSchedule(1L, Progress.PREACTIVITY, LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 30)));
+        wheel.schedule(getSchedule(2L, Progress.PREACTIVITY, LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 30)));
+
+        //when
+        wheel.schedule(getSchedule(1L, Progress.PREACTIVITY, LocalDate.of(2024, 3, 20), LocalDate.of(2024, 3, 30)));
+        wheel.remove(2L);
+
+        //then
+        assertThat(wheel.pollDue(LocalDate.of(2024, 3, 19))).isEmpty();
+        assertThat(wheel.pollDue(LocalDate.of(2024, 3, 20)).get(Progress.ACTIVITY)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 PREACTIVITY 인스턴스는 ACTIVITY를 건너뛰고 DONE 전환으로 등록된다.")
+    public void should_scheduleDone_when_preActivityAlreadyEnded() {
+        //given
+        wheel.schedule(getSchedule(1L, Progress.PREACTIVITY, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 10)));
+        wheel.schedule(getSchedule(2L, Progress.DONE, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 10)));
+
+        //when
+        Map<Progress, List<Long>> due = wheel.pollDue(LocalDate.of(2024, 3, 1));
+
+        //then
+        assertThat(due).containsOnlyKeys(Progress.DONE);
+        assertThat(due.get(Progress.DONE)).containsExactly(1L);
+    }
+
+    private InstanceSchedule getSchedule(Long instanceId, Progress progress,
+                                         LocalDate startedDate, LocalDate completedDate) {
+        return new InstanceSchedule(instanceId, progress, startedDate.atTime(0, 0), completedDate.atTime(0, 0));
+    }
+}
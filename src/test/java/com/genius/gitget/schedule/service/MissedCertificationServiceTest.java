@@ -0,0 +1,71 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.challenge.certification.domain.CertificateStatus;
+import com.genius.gitget.challenge.certification.domain.Certification;
+import com.genius.gitget.challenge.certification.repository.CertificationRepository;
+import com.genius.gitget.challenge.instance.domain.Instance;
+import com.genius.gitget.challenge.instance.domain.Progress;
+import com.genius.gitget.challenge.instance.repository.InstanceRepository;
+import com.genius.gitget.challenge.participant.domain.JoinResult;
+import com.genius.gitget.challenge.participant.domain.Participant;
+import com.genius.gitget.challenge.participant.repository.ParticipantRepository;
+import com.genius.gitget.challenge.user.domain.Role;
+import com.genius.gitget.challenge.user.domain.User;
+import com.genius.gitget.challenge.user.repository.UserRepository;
+import com.genius.gitget.util.certification.CertificationFactory;
+import com.genius.gitget.util.instance.InstanceFactory;
+import com.genius.gitget.util.participant.ParticipantFactory;
+import com.genius.gitget.util.user.UserFactory;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class MissedCertificationServiceTest {
+    @Autowired
+    private MissedCertificationService missedCertificationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private InstanceRepository instanceRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private CertificationRepository certificationRepository;
+
+    @Test
+    @DisplayName("진행 중인 챌린지 참여자 중 당일 인증이 없는 참여자에게만 NOT_YET 인증을 생성한다.")
+    public void should_createNotYet_when_certificationNotExist() {
+        //given
+        LocalDate targetDate = LocalDate.of(2024, 3, 5);
+        Instance instance = instanceRepository.save(
+                InstanceFactory.createByInfo(LocalDate.of(2024, 3, 1), Progress.ACTIVITY));
+
+        Participant missed = participantRepository.save(ParticipantFactory.createProcessing(
+                userRepository.save(UserFactory.createByInfo("missed", Role.USER)), instance));
+        Participant certificated = participantRepository.save(ParticipantFactory.createProcessing(
+                userRepository.save(UserFactory.createByInfo("certificated", Role.USER)), instance));
+        participantRepository.save(ParticipantFactory.createQuit(
+                userRepository.save(UserFactory.createByInfo("quit", Role.USER)), instance, JoinResult.FAIL));
+        certificationRepository.save(CertificationFactory.createCertificated(certificated, targetDate));
+
+        //when
+        int created = missedCertificationService.run(targetDate);
+        int createdAgain = missedCertificationService.run(targetDate);
+
+        //then
+        Certification notYet = certificationRepository.findByDate(targetDate, missed.getId()).orElseThrow();
+        assertThat(created).isEqualTo(1);
+        assertThat(createdAgain).isZero();
+        assertThat(notYet.getCertificationStatus()).isEqualTo(CertificateStatus.NOT_YET);
+        assertThat(notYet.getCurrentAttempt()).isEqualTo(5);
+        assertThat(certificationRepository.findByDate(targetDate, certificated.getId()).orElseThrow()
+                .getCertificationStatus()).isEqualTo(CertificateStatus.CERTIFICATED);
+    }
+}
@@ -0,0 +1,63 @@
+package com.genius.gitget.schedule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.genius.gitget.schedule.dto.AcquiredLease;
+import com.genius.gitget.schedule.repository.ScheduleLeaseRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/*
+ * lease 획득/반납은 별도 트랜잭션으로 커밋되므로 테스트 클래스 단위 트랜잭션을 사용하지 않는다.
+ * */
+@SpringBootTest
+class ScheduleServiceTest {
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleLeaseService scheduleLeaseService;
+    @Autowired
+    private ScheduleLeaseRepository scheduleLeaseRepository;
+
+    @AfterEach
+    void cleanup() {
+        scheduleLeaseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 lease를 가지고 있다면 진행 상태 갱신을 건너뛰고, 반납된 이후에는 실행할 수 있다.")
+    public void should_skip_when_leaseHeldByOther() {
+        //given
+        AcquiredLease held = scheduleLeaseService.tryAcquire(ScheduleService.PROGRESS_LEASE, Duration.ofMinutes(5))
+                .orElseThrow();
+
+        //when
+        boolean whileHeld = scheduleService.updateProgress();
+        scheduleLeaseService.release(held);
+        boolean afterRelease = scheduleService.updateProgress();
+
+        //then
+        assertThat(whileHeld).isFalse();
+        assertThat(afterRelease).isTrue();
+        assertThat(scheduleService.getStats().skippedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease가 만료되었다면 다른 실행이 lease를 가져갈 수 있다.")
+    public void should_acquire_when_leaseExpired() {
+        //given
+        scheduleLeaseService.tryAcquire(ScheduleService.PROGRESS_LEASE, Duration.ofMillis(-1)).orElseThrow();
+
+        //when
+        Optional<AcquiredLease> acquired = scheduleLeaseService.tryAcquire(
+                ScheduleService.PROGRESS_LEASE, Duration.ofMinutes(5));
+
+        //then
+        assertThat(acquired).isPresent();
+    }
+}